@@ -0,0 +1,177 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A skeleton of a {@link List} that stores its items encoded by a {@link FixedWidthCodec} in an array of equally
+ * sized {@link ByteBuffer} chunks. Subclasses decide where the chunks come from.
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see OffHeapList
+ * @see MappedList
+ */
+abstract class AbstractChunkedList<E> extends AbstractIndexedList<E> implements List<E> {
+    final FixedWidthCodec<E> codec;
+    final int width;
+    final int chunkBytes;
+    final int chunkItems;
+    ByteBuffer[] chunks;
+    int len;
+
+    AbstractChunkedList(@NotNull FixedWidthCodec<E> codec, int chunkBytes) {
+        if (codec.width() <= 0 || codec.width() > chunkBytes)
+            throw new IllegalArgumentException("Illegal codec width: " + codec.width());
+        this.codec = codec;
+        this.width = codec.width();
+        this.chunkItems = chunkBytes / width;
+        this.chunkBytes = chunkItems * width;
+        this.chunks = new ByteBuffer[0];
+        this.len = 0;
+    }
+
+    /**
+     * Creates the chunk at the given position of the chunk array, with {@link #chunkBytes} bytes.
+     */
+    abstract ByteBuffer newChunk(int chunk);
+
+    /**
+     * Called after every change of {@link #len}.
+     */
+    void lengthChanged() {
+    }
+
+    public int size() {
+        return len;
+    }
+
+    public E get(int index) throws IndexOutOfBoundsException {
+        verifyOpen();
+        verifyElementIndex(index);
+        return read(index);
+    }
+
+    public E set(E item, int index) throws IndexOutOfBoundsException {
+        verifyOpen();
+        verifyElementIndex(index);
+        final E oldItem = read(index);
+        write(item, index);
+        return oldItem;
+    }
+
+    public void add(E item, int index) throws IndexOutOfBoundsException {
+        verifyOpen();
+        verifyPositionIndex(index);
+        ensureCapacity(len + 1);
+        move(index, index + 1, len - index);
+        write(item, index);
+        len++;
+        lengthChanged();
+    }
+
+    public void addLast(E item) {
+        verifyOpen();
+        ensureCapacity(len + 1);
+        write(item, len++);
+        lengthChanged();
+    }
+
+    public E remove(int index) throws IndexOutOfBoundsException {
+        verifyOpen();
+        verifyElementIndex(index);
+        final E remE = read(index);
+        move(index + 1, index, len - index - 1);
+        len--;
+        lengthChanged();
+        return remE;
+    }
+
+    public E removeLast() throws NoSuchElementException {
+        verifyOpen();
+        if (len == 0)
+            throw new NoSuchElementException();
+        final E remE = read(--len);
+        lengthChanged();
+        return remE;
+    }
+
+    public void clear() {
+        verifyOpen();
+        len = 0;
+        lengthChanged();
+    }
+
+    /**
+     * @return {@code true} if the List was closed and its chunks dropped.
+     */
+    public boolean isClosed() {
+        return chunks == null;
+    }
+
+    void verifyOpen() {
+        if (chunks == null)
+            throw new IllegalStateException("The List is closed");
+    }
+
+    /**
+     * Creates chunks until the List can hold minCapacity items.
+     */
+    void ensureCapacity(int minCapacity) {
+        final int needed = (int) (((long) minCapacity + chunkItems - 1) / chunkItems);
+        if (needed <= chunks.length)
+            return;
+        final int old = chunks.length;
+        chunks = Arrays.copyOf(chunks, needed);
+        for (int c = old; c < needed; c++)
+            chunks[c] = newChunk(c);
+    }
+
+    E read(int index) {
+        return codec.read(chunks[index / chunkItems], index % chunkItems * width);
+    }
+
+    void write(E item, int index) {
+        codec.write(item, chunks[index / chunkItems], index % chunkItems * width);
+    }
+
+    /**
+     * Moves count items starting at from so they start at to, crossing chunk boundaries as needed. Overlapping
+     * ranges are handled like {@link System#arraycopy}.
+     */
+    private void move(int from, int to, int count) {
+        if (count <= 0 || from == to)
+            return;
+        if (from > to) {
+            while (count > 0) {
+                final int piece = Math.min(count,
+                        Math.min(chunkItems - from % chunkItems, chunkItems - to % chunkItems));
+                copy(from, to, piece);
+                from += piece;
+                to += piece;
+                count -= piece;
+            }
+        } else {
+            int fromEnd = from + count;
+            int toEnd = to + count;
+            while (count > 0) {
+                final int piece = Math.min(count,
+                        Math.min((fromEnd - 1) % chunkItems + 1, (toEnd - 1) % chunkItems + 1));
+                fromEnd -= piece;
+                toEnd -= piece;
+                copy(fromEnd, toEnd, piece);
+                count -= piece;
+            }
+        }
+    }
+
+    /**
+     * Copies count items from from to to, both ranges lying inside a single chunk each.
+     */
+    private void copy(int from, int to, int count) {
+        chunks[to / chunkItems].put(to % chunkItems * width,
+                chunks[from / chunkItems], from % chunkItems * width, count * width);
+    }
+}
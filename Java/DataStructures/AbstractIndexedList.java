@@ -0,0 +1,158 @@
+package DataStructures;
+
+import java.security.InvalidParameterException;
+import java.util.NoSuchElementException;
+
+/**
+ * A skeleton of a {@link List} whose every operation is written in terms of {@link #size()}, {@link #get(int)},
+ * {@link #set(Object, int)}, {@link #add(Object, int)} and {@link #remove(int)}. It is meant for views and adapters
+ * over structures with cheap positional access.
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see AbstractList
+ */
+abstract class AbstractIndexedList<E> extends AbstractList<E> implements List<E> {
+    AbstractIndexedList() {
+    }
+
+    public abstract int size();
+
+    public abstract E get(int index) throws IndexOutOfBoundsException;
+
+    public void addFirst(E item) {
+        add(item, 0);
+    }
+
+    public void addLast(E item) {
+        add(item, size());
+    }
+
+    public E removeFirst() throws NoSuchElementException {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return remove(0);
+    }
+
+    public E removeLast() throws NoSuchElementException {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return remove(size() - 1);
+    }
+
+    public E getFirst() throws NoSuchElementException {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return get(0);
+    }
+
+    public E getLast() throws NoSuchElementException {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return get(size() - 1);
+    }
+
+    public E setFirst(E item) throws NoSuchElementException {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return set(item, 0);
+    }
+
+    public E setLast(E item) throws NoSuchElementException {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return set(item, size() - 1);
+    }
+
+    public ListIterator<E> iterator() {
+        return new IndexedListIterator(0, 0);
+    }
+
+    public ListIterator<E> iterator(int start) {
+        verifyPositionIndex(start);
+        return new IndexedListIterator(start, 0);
+    }
+
+    public ListIterator<E> iterator(int start, int stop) {
+        verifyPositionIndex(start);
+        if (start > stop)
+            throw new InvalidParameterException(start + " is greater than " + stop);
+        return new IndexedListIterator(start, size() - stop);
+    }
+
+    private class IndexedListIterator implements ListIterator<E> {
+        private int nextI;
+        private int lastRetI;
+        private boolean hasLastRet = false;
+        private final int stopDist;
+
+        IndexedListIterator(int i, int stopDist) {
+            lastRetI = nextI = i;
+            this.stopDist = stopDist;
+        }
+
+        public boolean hasNext() {
+            return nextI != size() - stopDist;
+        }
+
+        public boolean hasPrevious() {
+            return nextI != 0;
+        }
+
+        public E next() throws NoSuchElementException {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            hasLastRet = true;
+            lastRetI = nextI++;
+            return AbstractIndexedList.this.get(lastRetI);
+        }
+
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            hasLastRet = true;
+            lastRetI = --nextI;
+            return AbstractIndexedList.this.get(lastRetI);
+        }
+
+        public void remove() throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            AbstractIndexedList.this.remove(lastRetI);
+            if (lastRetI < nextI)
+                nextI--;
+            hasLastRet = false;
+        }
+
+        public void add(E item) throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            AbstractIndexedList.this.add(item, nextI);
+            nextI++;
+            hasLastRet = false;
+        }
+
+        public int index() {
+            return lastRetI;
+        }
+
+        public int nextIndex() {
+            return nextI;
+        }
+
+        public int prevIndex() {
+            return nextI - 1;
+        }
+
+        public E get() throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            return AbstractIndexedList.this.get(lastRetI);
+        }
+
+        public E set(E item) throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            return AbstractIndexedList.this.set(item, lastRetI);
+        }
+    }
+}
@@ -1,6 +1,114 @@
 package DataStructures;
 
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
 public abstract class AbstractLinkedList<E> extends AbstractList<E> implements List<E> {
+    /**
+     * The amount by which the batches copied out of the nodes by {@code trySplit} grow on each split.
+     */
+    static final int SPLIT_BATCH_UNIT = 1 << 10;
+
+    /**
+     * The maximum size of a batch copied out of the nodes by {@code trySplit}.
+     */
+    static final int SPLIT_MAX_BATCH = 1 << 25;
+
     AbstractLinkedList() {
     }
+
+    /**
+     * A late-binding {@link Spliterator} over a chain of nodes of type N, shared by the linked Lists. It splits by
+     * copying growing runs of nodes into arrays and traverses the rest of the nodes directly. Subclasses tell where
+     * the chain starts, how long it is and how to follow it.
+     * @param <N> The type of the nodes.
+     * @param <E> The type of the items held by the nodes.
+     */
+    abstract static class NodeSpliterator<N, E> implements Spliterator<E> {
+        private N current;
+        private int est = -1;
+        private int batch;
+
+        /**
+         * @return The first node of the List, read when the Spliterator is first used.
+         */
+        abstract N firstNode();
+
+        /**
+         * @return The size of the List, read when the Spliterator is first used.
+         */
+        abstract int size();
+
+        /**
+         * @return The node after n, or null if n is the last one.
+         */
+        abstract N next(N n);
+
+        /**
+         * @return The item held by n.
+         */
+        abstract E item(N n);
+
+        private int getEst() {
+            if (est < 0) {
+                est = size();
+                current = firstNode();
+            }
+            return est;
+        }
+
+        public long estimateSize() {
+            return getEst();
+        }
+
+        public Spliterator<E> trySplit() {
+            N p;
+            final int s = getEst();
+            if (s <= 1 || (p = current) == null)
+                return null;
+
+            final int n = Math.min(Math.min(batch + SPLIT_BATCH_UNIT, s), SPLIT_MAX_BATCH);
+            final Object[] a = new Object[n];
+            int j = 0;
+            do
+                a[j++] = item(p);
+            while ((p = next(p)) != null && j < n);
+            current = p;
+            batch = j;
+            est = s - j;
+            return Spliterators.spliterator(a, 0, j, Spliterator.ORDERED);
+        }
+
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            N p;
+            int n = getEst();
+            if (n <= 0 || (p = current) == null)
+                return;
+            current = null;
+            est = 0;
+            do {
+                final E e = item(p);
+                p = next(p);
+                action.accept(e);
+            } while (p != null && --n > 0);
+        }
+
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            final N p;
+            if (getEst() <= 0 || (p = current) == null)
+                return false;
+            est--;
+            current = next(p);
+            action.accept(item(p));
+            return true;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 }
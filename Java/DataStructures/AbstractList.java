@@ -4,13 +4,33 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 
 public abstract class AbstractList<E> implements List<E> {
+    /**
+     * Collections that are not {@link Set}s and have more items than this are copied to a {@link HashSet} before
+     * being used for membership checks by bulk operations.
+     */
+    private static final int HASH_LOOKUP_THRESHOLD = 8;
+
     AbstractList() {
     }
 
+    /**
+     * Whether read operations may update caches kept in the List, such as the finger of {@link DoublyLinkedList}, so
+     * they must never overlap with a write. {@link ConcurrentLists#readMostly(List)} reads such Lists under its read
+     * lock instead of optimistically.
+     * @return false, unless overridden.
+     */
+    boolean cachesReads() {
+        return false;
+    }
+
     public void addFirst(E item) {
         throw new UnsupportedOperationException();
     }
@@ -75,17 +95,38 @@ public abstract class AbstractList<E> implements List<E> {
         throw new UnsupportedOperationException();
     }
 
-    public final boolean isEmpty() {
+    public boolean isEmpty() {
         return size() == 0;
     }
 
     public boolean contains(Object o) {
         for (E e : this)
-            if (e.equals(o))
+            if (Objects.equals(o, e))
                 return true;
         return false;
     }
 
+    public int indexOf(Object o) {
+        int i = 0;
+        for (E e : this) {
+            if (Objects.equals(o, e))
+                return i;
+            i++;
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(Object o) {
+        int index = -1;
+        int i = 0;
+        for (E e : this) {
+            if (Objects.equals(o, e))
+                index = i;
+            i++;
+        }
+        return index;
+    }
+
     public boolean add(E e) {
         addLast(e);
         return true;
@@ -94,7 +135,7 @@ public abstract class AbstractList<E> implements List<E> {
     public boolean remove(Object o) {
         ListIterator<E> listIterator = iterator();
         while (listIterator.hasNext())
-            if (listIterator.next().equals(o)) {
+            if (Objects.equals(o, listIterator.next())) {
                 listIterator.remove();
                 return true;
             }
@@ -111,28 +152,33 @@ public abstract class AbstractList<E> implements List<E> {
     }
 
     public boolean addAll(@NotNull Collection<? extends E> c) {
+        final ListEvents.BulkOp event = ListEvents.beginBulkOp();
+        final int oldSize = size();
         boolean mod = false;
         for (E o : c) {
             addLast(o);
             mod = true;
         }
+        ListEvents.endBulkOp(event, "addAll", this, oldSize, c.size());
         return mod;
     }
 
     public boolean removeAll(@NotNull Collection<?> c) {
-        boolean mod = false;
-        ListIterator<E> thisIterator = iterator();
-        for (Object o : c) {
-            while (thisIterator.hasNext())
-                if (thisIterator.next().equals(o))
-                    thisIterator.remove();
-            mod = true;
-        }
+        final ListEvents.BulkOp event = ListEvents.beginBulkOp();
+        final int oldSize = size();
+        final Collection<?> lookup = lookupOf(c);
+        final boolean mod = removeIf(lookup::contains);
+        ListEvents.endBulkOp(event, "removeAll", this, oldSize, c.size());
         return mod;
     }
 
     public boolean retainAll(@NotNull Collection<?> c) {
-        return removeIf(e -> !c.contains(e));
+        final ListEvents.BulkOp event = ListEvents.beginBulkOp();
+        final int oldSize = size();
+        final Collection<?> lookup = lookupOf(c);
+        final boolean mod = removeIf(e -> !lookup.contains(e));
+        ListEvents.endBulkOp(event, "retainAll", this, oldSize, c.size());
+        return mod;
     }
 
     public void clear() {
@@ -154,7 +200,7 @@ public abstract class AbstractList<E> implements List<E> {
         Iterator<?> oItereator = oList.iterator();
         ListIterator<E> thisIterator = iterator();
         while (oItereator.hasNext())
-            if (!thisIterator.next().equals(oItereator.next()))
+            if (!Objects.equals(thisIterator.next(), oItereator.next()))
                 return false;
         return true;
     }
@@ -177,10 +223,12 @@ public abstract class AbstractList<E> implements List<E> {
     }
 
     public Object[] toArray() {
+        final ListEvents.BulkOp event = ListEvents.beginBulkOp();
         Object[] arr = new Object[size()];
         ListIterator<E> listIterator = iterator();
         while (listIterator.hasNext())
             arr[listIterator.nextIndex()] = listIterator.next();
+        ListEvents.endBulkOp(event, "toArray", this, arr.length, arr.length);
         return arr;
     }
 
@@ -193,18 +241,54 @@ public abstract class AbstractList<E> implements List<E> {
     }
 
     public List<E> subList(int first, int last) throws IllegalArgumentException {
-        throw new UnsupportedOperationException();
+        verifyRange(first, last);
+        return new IndexedSubList<>(this, first, last);
+    }
+
+    /**
+     * Sorts a copy of the items in an array and writes them back with {@link ListIterator#set(Object)}.
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c) {
+        final Object[] arr = toArray();
+        Arrays.sort(arr, (Comparator<Object>) c);
+        final ListIterator<E> listIterator = iterator();
+        for (Object o : arr) {
+            listIterator.next();
+            listIterator.set((E) o);
+        }
+    }
+
+    public List<E> copyOfRange(int first, int last) throws IllegalArgumentException {
+        return subListOfList(first, last, ArrayList.<E>withCapacity(Math.max(last - first, 0)));
     }
 
     protected List<E> subListOfList(int first, int last, List<E> list) throws IllegalArgumentException {
-        if (first > last || isNotPositionIndex(first) || isNotPositionIndex(last))
-            throw new IllegalArgumentException();
+        verifyRange(first, last);
         ListIterator<E> linkedListIterator = iterator(first, last);
         while (linkedListIterator.hasNext())
             list.addLast(linkedListIterator.next());
         return list;
     }
 
+    /**
+     * Returns a collection with the same items as {@code c} whose {@code contains} is cheap, so bulk operations can
+     * make a single pass over the List in O(n + m) instead of O(n * m).
+     */
+    protected static Collection<?> lookupOf(@NotNull Collection<?> c) {
+        if (c instanceof Set<?> || c.size() <= HASH_LOOKUP_THRESHOLD)
+            return c;
+        return new HashSet<>(c);
+    }
+
+    /**
+     * Returns c, or the natural ordering if c is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    protected static <E> Comparator<? super E> comparatorOf(Comparator<? super E> c) {
+        return c != null ? c : (Comparator<? super E>) Comparator.naturalOrder();
+    }
+
     protected boolean isNotElementIndex(int index) {
         return index < 0 || index >= size();
     }
@@ -226,4 +310,9 @@ public abstract class AbstractList<E> implements List<E> {
         if (isNotPositionIndex(index))
             throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
     }
+
+    protected void verifyRange(int first, int last) {
+        if (first > last || isNotPositionIndex(first) || isNotPositionIndex(last))
+            throw new IllegalArgumentException();
+    }
 }
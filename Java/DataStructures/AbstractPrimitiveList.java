@@ -0,0 +1,48 @@
+package DataStructures;
+
+/**
+ * The index checks shared by the primitive specializations of {@link List}.
+ * @author Eduardo Costa de Souza
+ * @see IntList
+ * @see LongList
+ */
+abstract class AbstractPrimitiveList {
+    AbstractPrimitiveList() {
+    }
+
+    /**
+     * @return Whether read operations may update caches kept in the List.
+     * @see AbstractList#cachesReads()
+     */
+    boolean cachesReads() {
+        return false;
+    }
+
+    public abstract int size();
+
+    public final boolean isEmpty() {
+        return size() == 0;
+    }
+
+    protected boolean isNotElementIndex(int index) {
+        return index < 0 || index >= size();
+    }
+
+    protected boolean isNotPositionIndex(int index) {
+        return index < 0 || index > size();
+    }
+
+    protected String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size();
+    }
+
+    protected void verifyElementIndex(int index) {
+        if (isNotElementIndex(index))
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    protected void verifyPositionIndex(int index) {
+        if (isNotPositionIndex(index))
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+}
@@ -0,0 +1,416 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An implementation of a {@link List} using a circular array whose length is a power of two.
+ * <p>
+ * Items are added and removed at both ends in O(1) and reached by index in O(1), masking the position instead of
+ * dividing. Positional inserts and removals move whichever side of the index is shorter. Once the array is large
+ * enough, operations at the ends allocate nothing, which makes it a replacement for {@link DoublyLinkedList} used as a
+ * queue or a stack.
+ * </p>
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see List
+ * @see ListIterator
+ */
+public class ArrayDequeList<E> extends AbstractList<E> implements List<E> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    /**
+     * Lists with more items than this are sorted by {@link Arrays#parallelSort(Object[], int, int, Comparator)},
+     * smaller ones do not make up for the cost of forking.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private Object[] items;
+    private int head;
+    private int len;
+
+    public ArrayDequeList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty List with room for capacity items before it has to grow. The capacity is rounded up to a
+     * power of two.
+     * @param capacity The initial capacity.
+     * @return The empty List.
+     * @param <E> The type of element to be stored in the List.
+     * @throws IllegalArgumentException If capacity is negative.
+     */
+    public static <E> ArrayDequeList<E> withCapacity(int capacity) {
+        return new ArrayDequeList<>(capacity);
+    }
+
+    private ArrayDequeList(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        items = new Object[capacityFor(capacity)];
+        head = 0;
+        len = 0;
+    }
+
+    public ArrayDequeList(@NotNull Collection<? extends E> initList) {
+        this(initList.size());
+        for (E item : initList)
+            addLast(item);
+    }
+
+    @SafeVarargs
+    public ArrayDequeList(E ... initList) {
+        this(Arrays.asList(initList));
+    }
+
+    public void addFirst(E item) {
+        if (len == items.length)
+            grow();
+        head = (head - 1) & (items.length - 1);
+        items[head] = item;
+        len++;
+    }
+
+    public void add(E item, int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+        if (len == items.length)
+            grow();
+        final int mask = items.length - 1;
+        if (index < len - index) {
+            final int oldHead = head;
+            head = (head - 1) & mask;
+            shiftLeft(oldHead, index);
+        } else
+            shiftRight((head + index) & mask, len - index);
+        items[(head + index) & mask] = item;
+        len++;
+    }
+
+    public void addLast(E item) {
+        if (len == items.length)
+            grow();
+        items[(head + len) & (items.length - 1)] = item;
+        len++;
+    }
+
+    public E removeFirst() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        final E remE = item(0);
+        items[head] = null;
+        head = (head + 1) & (items.length - 1);
+        len--;
+        return remE;
+    }
+
+    public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+        verifyElementIndex(index);
+        final int mask = items.length - 1;
+        final E remE = item(index);
+        if (index < len - index - 1) {
+            shiftRight(head, index);
+            items[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            shiftLeft((head + index + 1) & mask, len - index - 1);
+            items[(head + len - 1) & mask] = null;
+        }
+        len--;
+        return remE;
+    }
+
+    public E removeLast() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        final int p = (head + len - 1) & (items.length - 1);
+        final E remE = item(len - 1);
+        items[p] = null;
+        len--;
+        return remE;
+    }
+
+    public E getFirst() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return item(0);
+    }
+
+    public E get(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return item(index);
+    }
+
+    public E getLast() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return item(len - 1);
+    }
+
+    public E setFirst(E item) throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return setItem(item, 0);
+    }
+
+    public E set(E item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return setItem(item, index);
+    }
+
+    public E setLast(E item) throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return setItem(item, len - 1);
+    }
+
+    public int size() {
+        return len;
+    }
+
+    public boolean contains(Object o) {
+        for (int i = 0; i < len; i++)
+            if (Objects.equals(o, item(i)))
+                return true;
+        return false;
+    }
+
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < len; i++)
+            action.accept(item(i));
+    }
+
+    public boolean removeIf(@NotNull Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        final int mask = items.length - 1;
+        final int oldLen = len;
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < len; i++)
+                if (!filter.test(item(i)))
+                    items[(head + kept++) & mask] = items[(head + i) & mask];
+        } finally {
+            // if filter threw, the items that were not tested yet are kept
+            for (; i < len; i++)
+                items[(head + kept++) & mask] = items[(head + i) & mask];
+            for (int j = kept; j < oldLen; j++)
+                items[(head + j) & mask] = null;
+            len = kept;
+        }
+        return len != oldLen;
+    }
+
+    public void clear() {
+        final int mask = items.length - 1;
+        for (int i = 0; i < len; i++)
+            items[(head + i) & mask] = null;
+        head = 0;
+        len = 0;
+    }
+
+    public Object[] toArray() {
+        final Object[] arr = new Object[len];
+        final int firstRun = Math.min(len, items.length - head);
+        System.arraycopy(items, head, arr, 0, firstRun);
+        System.arraycopy(items, 0, arr, firstRun, len - firstRun);
+        return arr;
+    }
+
+    /**
+     * Sorts a copy of the items, splitting the work among the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool} when the List has more than {@value #PARALLEL_SORT_THRESHOLD} items,
+     * and copies it back around the ring only once the sort succeeded, so a throwing Comparator leaves the List as it
+     * was.
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c) {
+        final E[] sorted = (E[]) toArray();
+        if (len > PARALLEL_SORT_THRESHOLD)
+            Arrays.parallelSort(sorted, c);
+        else
+            Arrays.sort(sorted, c);
+        final int firstRun = Math.min(len, items.length - head);
+        System.arraycopy(sorted, 0, items, head, firstRun);
+        System.arraycopy(sorted, firstRun, items, 0, len - firstRun);
+    }
+
+    public ArrayDequeList<E> copyOfRange(int first, int last) throws IllegalArgumentException {
+        return (ArrayDequeList<E>) subListOfList(first, last, ArrayDequeList.<E>withCapacity(Math.max(last - first, 0)));
+    }
+
+    public ListIterator<E> iterator() {
+        return new ArrayDequeListIterator(0, 0);
+    }
+
+    public ListIterator<E> iterator(int start) {
+        verifyPositionIndex(start);
+        return new ArrayDequeListIterator(start, 0);
+    }
+
+    public ListIterator<E> iterator(int start, int stop) {
+        verifyPositionIndex(start);
+        if (start > stop)
+            throw new InvalidParameterException(start + " is greater than " + stop);
+        return new ArrayDequeListIterator(start, len - stop);
+    }
+
+    private class ArrayDequeListIterator implements ListIterator<E> {
+        private int nextI;
+        private int lastRetI;
+        private boolean hasLastRet = false;
+        private final int stopDist;
+
+        ArrayDequeListIterator(int i, int stopDist) {
+            lastRetI = nextI = i;
+            this.stopDist = stopDist;
+        }
+
+        public boolean hasNext() {
+            return nextI != len - stopDist;
+        }
+
+        public boolean hasPrevious() {
+            return nextI != 0;
+        }
+
+        public E next() throws NoSuchElementException {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            hasLastRet = true;
+            lastRetI = nextI++;
+            return item(lastRetI);
+        }
+
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            hasLastRet = true;
+            lastRetI = --nextI;
+            return item(lastRetI);
+        }
+
+        public void remove() throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            ArrayDequeList.this.remove(lastRetI);
+            if (lastRetI < nextI)
+                nextI--;
+            hasLastRet = false;
+        }
+
+        public void add(E item) throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            ArrayDequeList.this.add(item, nextI);
+            nextI++;
+            hasLastRet = false;
+        }
+
+        public int index() {
+            return lastRetI;
+        }
+
+        public int nextIndex() {
+            return nextI;
+        }
+
+        public int prevIndex() {
+            return nextI - 1;
+        }
+
+        public E get() throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            return item(lastRetI);
+        }
+
+        public E set(E item) throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            return setItem(item, lastRetI);
+        }
+    }
+
+    /**
+     * The smallest power of two that is at least capacity and {@link #DEFAULT_CAPACITY}.
+     */
+    private static int capacityFor(int capacity) {
+        if (capacity > MAX_CAPACITY)
+            throw new OutOfMemoryError("Required capacity too large: " + capacity);
+        if (capacity <= DEFAULT_CAPACITY)
+            return DEFAULT_CAPACITY;
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * Doubles the length of the backing array, unwrapping the items to its start.
+     */
+    private void grow() {
+        final Object[] newItems = new Object[capacityFor(items.length + 1)];
+        final int firstRun = Math.min(len, items.length - head);
+        System.arraycopy(items, head, newItems, 0, firstRun);
+        System.arraycopy(items, 0, newItems, firstRun, len - firstRun);
+        items = newItems;
+        head = 0;
+    }
+
+    /**
+     * Moves the n items starting at the array position from one position to the left, wrapping around the array.
+     */
+    private void shiftLeft(int from, int n) {
+        final int cap = items.length;
+        int src = from;
+        int dst = (from - 1) & (cap - 1);
+        while (n > 0) {
+            final int run = Math.min(n, Math.min(cap - src, cap - dst));
+            System.arraycopy(items, src, items, dst, run);
+            src = (src + run) & (cap - 1);
+            dst = (dst + run) & (cap - 1);
+            n -= run;
+        }
+    }
+
+    /**
+     * Moves the n items starting at the array position from one position to the right, wrapping around the array.
+     */
+    private void shiftRight(int from, int n) {
+        final int cap = items.length;
+        int srcEnd = (from + n) & (cap - 1);
+        int dstEnd = (srcEnd + 1) & (cap - 1);
+        while (n > 0) {
+            final int s = srcEnd == 0 ? cap : srcEnd;
+            final int d = dstEnd == 0 ? cap : dstEnd;
+            final int run = Math.min(n, Math.min(s, d));
+            System.arraycopy(items, s - run, items, d - run, run);
+            srcEnd = s - run;
+            dstEnd = d - run;
+            n -= run;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E item(int index) {
+        // assert !isNotElementIndex(index);
+        return (E) items[(head + index) & (items.length - 1)];
+    }
+
+    /**
+     * Sets the item at index to the given item.
+     */
+    private E setItem(E item, int index) {
+        final int p = (head + index) & (items.length - 1);
+        final E oldItem = item(index);
+        items[p] = item;
+        return oldItem;
+    }
+}
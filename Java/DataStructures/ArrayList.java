@@ -0,0 +1,340 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An implementation of a {@link List} using a resizable array.
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see List
+ * @see ListIterator
+ */
+public class ArrayList<E> extends AbstractList<E> implements List<E> {
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Lists with more items than this are sorted by {@link Arrays#parallelSort(Object[], int, int, Comparator)},
+     * smaller ones do not make up for the cost of forking.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private Object[] items;
+    private int len;
+
+    public ArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty List with room for capacity items before it has to grow. For Lists of {@link Integer},
+     * {@code new ArrayList<>(5)} holds the item 5 instead.
+     * @param capacity The initial capacity.
+     * @return The empty List.
+     * @param <E> The type of element to be stored in the List.
+     * @throws IllegalArgumentException If capacity is negative.
+     */
+    public static <E> ArrayList<E> withCapacity(int capacity) {
+        return new ArrayList<>(capacity);
+    }
+
+    private ArrayList(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        items = new Object[capacity];
+        len = 0;
+    }
+
+    public ArrayList(@NotNull Collection<? extends E> initList) {
+        items = initList.toArray();
+        if (items.getClass() != Object[].class)
+            items = Arrays.copyOf(items, items.length, Object[].class);
+        len = items.length;
+    }
+
+    @SafeVarargs
+    public ArrayList(E ... initList) {
+        this(Arrays.asList(initList));
+    }
+
+    public void addFirst(E item) {
+        add(item, 0);
+    }
+
+    public void add(E item, int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+        if (len == items.length)
+            grow(len + 1);
+        System.arraycopy(items, index, items, index + 1, len - index);
+        items[index] = item;
+        len++;
+    }
+
+    public void addLast(E item) {
+        if (len == items.length)
+            grow(len + 1);
+        items[len++] = item;
+    }
+
+    public E removeFirst() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return removeAt(0);
+    }
+
+    public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+        verifyElementIndex(index);
+        return removeAt(index);
+    }
+
+    public E removeLast() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return removeAt(len - 1);
+    }
+
+    public E getFirst() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return item(0);
+    }
+
+    public E get(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return item(index);
+    }
+
+    public E getLast() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return item(len - 1);
+    }
+
+    public E setFirst(E item) throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return setItem(item, 0);
+    }
+
+    public E set(E item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return setItem(item, index);
+    }
+
+    public E setLast(E item) throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return setItem(item, len - 1);
+    }
+
+    public int size() {
+        return len;
+    }
+
+    public boolean removeIf(@NotNull Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        final int oldLen = len;
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < len; i++)
+                if (!filter.test(item(i)))
+                    items[kept++] = items[i];
+        } finally {
+            // if filter threw, the items that were not tested yet are kept
+            System.arraycopy(items, i, items, kept, len - i);
+            len = kept + len - i;
+            Arrays.fill(items, len, oldLen, null);
+        }
+        return len != oldLen;
+    }
+
+    public void clear() {
+        Arrays.fill(items, 0, len, null);
+        len = 0;
+    }
+
+    public Object[] toArray() {
+        return Arrays.copyOf(items, len);
+    }
+
+    /**
+     * Increases the capacity of the List, if necessary, so that it can hold at least {@code minCapacity} items
+     * without being resized.
+     * @param minCapacity The desired minimum capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > items.length)
+            grow(minCapacity);
+    }
+
+    /**
+     * Trims the capacity of the List to its current size.
+     */
+    public void trimToSize() {
+        if (len < items.length)
+            items = Arrays.copyOf(items, len);
+    }
+
+    /**
+     * Sorts a copy of the items, splitting the work among the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool} when the List has more than {@value #PARALLEL_SORT_THRESHOLD} items,
+     * and copies it back only once the sort succeeded, so a throwing Comparator leaves the List as it was.
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c) {
+        final E[] sorted = (E[]) Arrays.copyOf(items, len);
+        if (len > PARALLEL_SORT_THRESHOLD)
+            Arrays.parallelSort(sorted, c);
+        else
+            Arrays.sort(sorted, c);
+        System.arraycopy(sorted, 0, items, 0, len);
+    }
+
+    public ArrayList<E> copyOfRange(int first, int last) throws IllegalArgumentException {
+        return (ArrayList<E>) subListOfList(first, last, new ArrayList<>(Math.max(last - first, 0)));
+    }
+
+    public ListIterator<E> iterator() {
+        return new ArrayListIterator();
+    }
+
+    public ListIterator<E> iterator(int start) {
+        verifyPositionIndex(start);
+        return new ArrayListIterator(start);
+    }
+
+    public ListIterator<E> iterator(int start, int stop) {
+        verifyPositionIndex(start);
+        if (start > stop)
+            throw new InvalidParameterException(start + " is greater than " + stop);
+        return new ArrayListIterator(start, len - stop);
+    }
+
+    private class ArrayListIterator implements ListIterator<E> {
+        private int nextI;
+        private int lastRetI;
+        private boolean hasLastRet = false;
+        private final int stopDist;
+
+        ArrayListIterator() {
+            this(0);
+        }
+
+        ArrayListIterator(int i) {
+            this(i, 0);
+        }
+
+        ArrayListIterator(int i, int stopDist) {
+            lastRetI = nextI = i;
+            this.stopDist = stopDist;
+        }
+
+        public boolean hasNext() {
+            return nextI != len - stopDist;
+        }
+
+        public boolean hasPrevious() {
+            return nextI != 0;
+        }
+
+        public E next() throws NoSuchElementException {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            hasLastRet = true;
+            lastRetI = nextI++;
+            return item(lastRetI);
+        }
+
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            hasLastRet = true;
+            lastRetI = --nextI;
+            return item(lastRetI);
+        }
+
+        public void remove() throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            removeAt(lastRetI);
+            if (lastRetI < nextI)
+                nextI--;
+            hasLastRet = false;
+        }
+
+        public void add(E item) throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            ArrayList.this.add(item, nextI);
+            nextI++;
+            hasLastRet = false;
+        }
+
+        public int index() {
+            return lastRetI;
+        }
+
+        public int nextIndex() {
+            return nextI;
+        }
+
+        public int prevIndex() {
+            return nextI - 1;
+        }
+
+        public E get() throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            return item(lastRetI);
+        }
+
+        public E set(E item) throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            return setItem(item, lastRetI);
+        }
+    }
+
+    /**
+     * Grows the backing array by half of its length, or to minCapacity if that is not enough.
+     */
+    private void grow(int minCapacity) {
+        int newCapacity = items.length + (items.length >> 1);
+        if (newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        items = Arrays.copyOf(items, newCapacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E item(int index) {
+        // assert !isNotElementIndex(index);
+        return (E) items[index];
+    }
+
+    /**
+     * Removes the item at index, shifting every following item one position to the left, and returns it.
+     */
+    private E removeAt(int index) {
+        // assert !isNotElementIndex(index);
+        final E remE = item(index);
+        System.arraycopy(items, index + 1, items, index, len - index - 1);
+        items[--len] = null;
+        return remE;
+    }
+
+    /**
+     * Sets the item at index to the given item.
+     */
+    private E setItem(E item, int index) {
+        final E oldItem = item(index);
+        items[index] = item;
+        return oldItem;
+    }
+}
@@ -0,0 +1,293 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe implementation of a {@link List} restricted to queue operations, using single chain Nodes and the
+ * lock free algorithm of Michael and Scott.
+ * <p>
+ * {@link #addLast(Object)}, {@link #removeFirst()}, {@link #getFirst()} and {@link #isEmpty()} never block. Iterators
+ * are weakly consistent: they never throw because of concurrent changes and see every item present when they were
+ * created that was not removed before being reached, but they can not modify the List. {@link #size()} is kept by a
+ * {@link LongAdder}, so it is cheap under contention but only exact when the List is not being modified.
+ * </p>
+ * <p>
+ * Positional insertions and removals, {@code set} and {@code remove(Object)} are not supported, and {@code null}
+ * items are not permitted.
+ * </p>
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see List
+ * @see LinkedList
+ */
+public class ConcurrentLinkedList<E> extends AbstractLinkedList<E> implements List<E> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentLinkedList.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedList.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * A sentinel node whose next node holds the first item.
+     */
+    private volatile Node<E> head;
+    /**
+     * The last node or, for a short while after an insertion, the one before it.
+     */
+    private volatile Node<E> tail;
+    private final LongAdder len = new LongAdder();
+
+    public ConcurrentLinkedList() {
+        head = tail = new Node<>(null);
+    }
+
+    public ConcurrentLinkedList(@NotNull Collection<? extends E> initList) {
+        this();
+        for (E item : initList)
+            addLast(item);
+    }
+
+    public void addLast(E item) {
+        final Node<E> newNode = new Node<>(Objects.requireNonNull(item));
+        while (true) {
+            final Node<E> t = tail;
+            final Node<E> next = t.next;
+            if (t != tail)
+                continue;
+            if (next == null) {
+                if (NEXT.compareAndSet(t, null, newNode)) {
+                    TAIL.compareAndSet(this, t, newNode);
+                    len.increment();
+                    return;
+                }
+            } else
+                TAIL.compareAndSet(this, t, next);
+        }
+    }
+
+    public E removeFirst() throws NoSuchElementException {
+        while (true) {
+            final Node<E> h = head;
+            final Node<E> t = tail;
+            final Node<E> first = h.next;
+            if (h != head)
+                continue;
+            if (first == null)
+                throw new NoSuchElementException();
+            if (h == t) {
+                TAIL.compareAndSet(this, t, first);
+                continue;
+            }
+            final E item = first.item;
+            if (HEAD.compareAndSet(this, h, first)) {
+                // first is the new sentinel, its item is no longer part of the List
+                first.item = null;
+                len.decrement();
+                return item;
+            }
+        }
+    }
+
+    public E getFirst() throws NoSuchElementException {
+        while (true) {
+            final Node<E> h = head;
+            final Node<E> first = h.next;
+            if (first == null)
+                throw new NoSuchElementException();
+            final E item = first.item;
+            if (item != null && h == head)
+                return item;
+        }
+    }
+
+    public E get(int index) throws IndexOutOfBoundsException {
+        if (index < 0)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        final ListIterator<E> it = iterator();
+        for (int i = 0; i < index && it.hasNext(); i++)
+            it.next();
+        if (!it.hasNext())
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        return it.next();
+    }
+
+    public E getLast() throws NoSuchElementException {
+        E item = null;
+        for (Node<E> p = head.next; p != null; p = p.next) {
+            final E e = p.item;
+            if (e != null)
+                item = e;
+        }
+        if (item == null)
+            throw new NoSuchElementException();
+        return item;
+    }
+
+    public int size() {
+        return (int) Math.max(0, Math.min(len.sum(), Integer.MAX_VALUE));
+    }
+
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    public void clear() {
+        while (!isEmpty()) {
+            try {
+                removeFirst();
+            } catch (NoSuchElementException ignored) {
+                return;
+            }
+        }
+    }
+
+    public Object[] toArray() {
+        final ArrayList<Object> items = new ArrayList<>();
+        for (E e : this)
+            items.addLast(e);
+        return items.toArray();
+    }
+
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+        final ListIterator<E> it = iterator();
+        while (it.hasNext()) {
+            sb.append(it.next());
+            if (it.hasNext())
+                sb.append(", ");
+        }
+        return sb.append(']').toString();
+    }
+
+    public ListIterator<E> iterator() {
+        return new ConcurrentLinkedListIterator(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a weakly consistent {@link Spliterator} over the items of the List, which is not {@code SIZED} since
+     * {@link #size()} is only approximate while the List is being modified.
+     * @return A {@link Spliterator}.
+     */
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    public ListIterator<E> iterator(int start) {
+        return iterator(start, Integer.MAX_VALUE);
+    }
+
+    public ListIterator<E> iterator(int start, int stop) {
+        if (start < 0)
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(start));
+        if (start > stop)
+            throw new IllegalArgumentException(start + " is greater than " + stop);
+        final ConcurrentLinkedListIterator it = new ConcurrentLinkedListIterator(0, stop);
+        while (it.nextIndex() < start) {
+            if (it.next == null)
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(start));
+            it.next();
+        }
+        it.lastRet = null;
+        return it;
+    }
+
+    private class ConcurrentLinkedListIterator implements ListIterator<E> {
+        /**
+         * The node of nextItem, both are read ahead so hasNext stays true even if the item is removed meanwhile.
+         */
+        private Node<E> next;
+        private E nextItem;
+        private E lastRet = null;
+        private int nextI;
+        private final int stop;
+
+        ConcurrentLinkedListIterator(int i, int stop) {
+            nextI = i;
+            this.stop = stop;
+            advance(head);
+        }
+
+        /**
+         * Moves next to the first node after p holding an item.
+         */
+        private void advance(Node<E> p) {
+            for (p = p.next; p != null; p = p.next) {
+                final E e = p.item;
+                if (e != null) {
+                    next = p;
+                    nextItem = e;
+                    return;
+                }
+            }
+            next = null;
+            nextItem = null;
+        }
+
+        public boolean hasNext() {
+            return next != null && nextI < stop;
+        }
+
+        public E next() throws NoSuchElementException {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            lastRet = nextItem;
+            advance(next);
+            nextI++;
+            return lastRet;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public void add(E item) {
+            throw new UnsupportedOperationException();
+        }
+
+        public int index() {
+            return nextI - 1;
+        }
+
+        public int nextIndex() {
+            return nextI;
+        }
+
+        public E get() throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            return lastRet;
+        }
+
+        public E set(E item) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class Node<E> {
+        volatile E item;
+        volatile Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,426 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Thread safe decorators for the {@link List}s of this package.
+ * @author Eduardo Costa de Souza
+ * @see List
+ */
+public final class ConcurrentLists {
+    private ConcurrentLists() {
+    }
+
+    /**
+     * Returns a thread safe view of list for state that is read much more often than it is written.
+     * <p>
+     * {@code get}, {@code getFirst}, {@code getLast}, {@code size}, {@code isEmpty}, {@code contains},
+     * {@code indexOf}, {@code lastIndexOf} and {@code containsAll} first run without any lock and are validated
+     * afterwards with a {@link StampedLock} optimistic stamp, retrying under the read lock only if a writer got in the
+     * way. Every change takes the write lock, bulk changes such as {@code addAll} and {@code removeIf} take it once
+     * for the whole batch.
+     * </p>
+     * <p>
+     * Iterators walk the List itself, each step validated like the reads above, and throw a
+     * {@link ConcurrentModificationException} once a writer got in since they were created. They can not modify the
+     * List. Walking a {@link List#snapshot()} gives an iteration no writer can break, at the cost of the copy, and
+     * {@code forEach} runs the whole walk under the read lock. Sub lists are views over the returned List, so each of
+     * their operations is locked on its own. The List must not be used other than through the returned view
+     * afterwards.
+     * </p>
+     * <p>
+     * Reads that update caches kept in the List, such as the finger {@link DoublyLinkedList} moves on positional
+     * reads, must never overlap with a write, so the Lists of this package that have such caches are always read
+     * under the read lock. Lists implemented elsewhere are read optimistically, so their read operations must not
+     * change their state.
+     * </p>
+     * @param list The List to be decorated.
+     * @return The thread safe view.
+     * @param <E> The type of element stored in the List.
+     */
+    public static <E> List<E> readMostly(@NotNull List<E> list) {
+        return new ReadMostlyList<>(Objects.requireNonNull(list));
+    }
+
+    private static final class ReadMostlyList<E> extends AbstractList<E> implements List<E> {
+        private final List<E> list;
+        private final StampedLock lock = new StampedLock();
+        /**
+         * Whether the reads of list can run without a lock, which they can not if they update caches.
+         */
+        private final boolean optimistic;
+
+        ReadMostlyList(List<E> list) {
+            this.list = list;
+            optimistic = !(list instanceof AbstractList<?> l && l.cachesReads());
+        }
+
+        public void addFirst(E item) {
+            final long stamp = lock.writeLock();
+            try {
+                list.addFirst(item);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        public void add(E item, int index) throws IndexOutOfBoundsException {
+            final long stamp = lock.writeLock();
+            try {
+                list.add(item, index);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        public void addLast(E item) {
+            final long stamp = lock.writeLock();
+            try {
+                list.addLast(item);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        public E removeFirst() throws NoSuchElementException {
+            return write(list::removeFirst);
+        }
+
+        public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+            return write(() -> list.remove(index));
+        }
+
+        public E removeLast() throws NoSuchElementException {
+            return write(list::removeLast);
+        }
+
+        public E getFirst() throws NoSuchElementException {
+            return read(list::getFirst);
+        }
+
+        public E get(int index) throws IndexOutOfBoundsException {
+            return read(() -> list.get(index));
+        }
+
+        public E getLast() throws NoSuchElementException {
+            return read(list::getLast);
+        }
+
+        public E setFirst(E item) throws NoSuchElementException {
+            return write(() -> list.setFirst(item));
+        }
+
+        public E set(E item, int index) throws IndexOutOfBoundsException {
+            return write(() -> list.set(item, index));
+        }
+
+        public E setLast(E item) throws NoSuchElementException {
+            return write(() -> list.setLast(item));
+        }
+
+        public int size() {
+            return readInt(list::size);
+        }
+
+        public boolean isEmpty() {
+            return readBoolean(list::isEmpty);
+        }
+
+        public boolean contains(Object o) {
+            return readBoolean(() -> list.contains(o));
+        }
+
+        public int indexOf(Object o) {
+            return read(() -> list.indexOf(o));
+        }
+
+        public int lastIndexOf(Object o) {
+            return read(() -> list.lastIndexOf(o));
+        }
+
+        public boolean containsAll(@NotNull Collection<?> c) {
+            return readBoolean(() -> list.containsAll(c));
+        }
+
+        public boolean add(E e) {
+            return write(() -> list.add(e));
+        }
+
+        public boolean remove(Object o) {
+            return write(() -> list.remove(o));
+        }
+
+        public boolean addAll(@NotNull Collection<? extends E> c) {
+            return write(() -> list.addAll(c));
+        }
+
+        public boolean removeAll(@NotNull Collection<?> c) {
+            return write(() -> list.removeAll(c));
+        }
+
+        public boolean retainAll(@NotNull Collection<?> c) {
+            return write(() -> list.retainAll(c));
+        }
+
+        public boolean removeIf(@NotNull Predicate<? super E> filter) {
+            return write(() -> list.removeIf(filter));
+        }
+
+        public void clear() {
+            final long stamp = lock.writeLock();
+            try {
+                list.clear();
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        public void sort(Comparator<? super E> c) {
+            final long stamp = lock.writeLock();
+            try {
+                list.sort(c);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        public void forEach(Consumer<? super E> action) {
+            final long stamp = lock.readLock();
+            try {
+                list.forEach(action);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        public boolean equals(Object o) {
+            return o == this || locked(() -> list.equals(o));
+        }
+
+        public int hashCode() {
+            return locked(list::hashCode);
+        }
+
+        public String toString() {
+            return locked(list::toString);
+        }
+
+        public Object[] toArray() {
+            return locked(list::toArray);
+        }
+
+        public <T> T[] toArray(T[] a) {
+            return locked(() -> list.toArray(a));
+        }
+
+        public List<E> copyOfRange(int first, int last) throws IllegalArgumentException {
+            return locked(() -> list.copyOfRange(first, last));
+        }
+
+        public PersistentList<E> snapshot() {
+            return locked(list::snapshot);
+        }
+
+        public ListIterator<E> iterator() {
+            return validated(list::iterator);
+        }
+
+        public ListIterator<E> iterator(int start) {
+            return validated(() -> list.iterator(start));
+        }
+
+        public ListIterator<E> iterator(int start, int stop) {
+            return validated(() -> list.iterator(start, stop));
+        }
+
+        /**
+         * Creates the iterator of list under the read lock and wraps it so that it checks on every step that no
+         * writer got in since.
+         */
+        private ListIterator<E> validated(Supplier<ListIterator<E>> op) {
+            final long stamp = lock.readLock();
+            try {
+                return new ValidatedIterator(op.get(), stamp);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * A read only iterator over list that is valid as long as no write lock was taken after its stamp. Each step
+         * runs without a lock, or under the read lock if list caches reads, and is validated afterwards.
+         */
+        private final class ValidatedIterator implements ListIterator<E> {
+            private final ListIterator<E> it;
+            private final long stamp;
+
+            private ValidatedIterator(ListIterator<E> it, long stamp) {
+                this.it = it;
+                this.stamp = stamp;
+            }
+
+            public boolean hasNext() {
+                return step(it::hasNext);
+            }
+
+            public E next() {
+                return step(it::next);
+            }
+
+            public boolean hasPrevious() {
+                return step(it::hasPrevious);
+            }
+
+            public E previous() {
+                return step(it::previous);
+            }
+
+            public int index() {
+                return step(it::index);
+            }
+
+            public int nextIndex() {
+                return step(it::nextIndex);
+            }
+
+            public int prevIndex() {
+                return step(it::prevIndex);
+            }
+
+            public E get() {
+                return step(it::get);
+            }
+
+            public E set(E item) {
+                throw new UnsupportedOperationException();
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            public void add(E item) {
+                throw new UnsupportedOperationException();
+            }
+
+            /**
+             * Runs op and returns its result, or throws a {@link ConcurrentModificationException} if a writer got in
+             * since the iterator was created.
+             */
+            private <R> R step(Supplier<R> op) {
+                if (!optimistic) {
+                    final long read = lock.readLock();
+                    try {
+                        if (!lock.validate(stamp))
+                            throw new ConcurrentModificationException();
+                        return op.get();
+                    } finally {
+                        lock.unlockRead(read);
+                    }
+                }
+                final R r;
+                try {
+                    r = op.get();
+                } catch (RuntimeException e) {
+                    if (lock.validate(stamp))
+                        throw e;
+                    throw new ConcurrentModificationException();
+                }
+                if (!lock.validate(stamp))
+                    throw new ConcurrentModificationException();
+                return r;
+            }
+        }
+
+        /**
+         * Runs op without locking and returns its result if no writer ran meanwhile, otherwise runs it again under
+         * the read lock. Lists caching reads are only read under the read lock.
+         */
+        private <R> R read(Supplier<R> op) {
+            long stamp = optimistic ? lock.tryOptimisticRead() : 0;
+            if (stamp != 0) {
+                try {
+                    final R r = op.get();
+                    if (lock.validate(stamp))
+                        return r;
+                } catch (RuntimeException e) {
+                    // an exception thrown while a writer was running says nothing about the List
+                    if (lock.validate(stamp))
+                        throw e;
+                }
+            }
+            return locked(op);
+        }
+
+        private int readInt(IntSupplier op) {
+            long stamp = optimistic ? lock.tryOptimisticRead() : 0;
+            if (stamp != 0) {
+                final int r = op.getAsInt();
+                if (lock.validate(stamp))
+                    return r;
+            }
+            stamp = lock.readLock();
+            try {
+                return op.getAsInt();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private boolean readBoolean(BooleanSupplier op) {
+            long stamp = optimistic ? lock.tryOptimisticRead() : 0;
+            if (stamp != 0) {
+                try {
+                    final boolean r = op.getAsBoolean();
+                    if (lock.validate(stamp))
+                        return r;
+                } catch (RuntimeException e) {
+                    if (lock.validate(stamp))
+                        throw e;
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                return op.getAsBoolean();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * Runs op under the read lock.
+         */
+        private <R> R locked(Supplier<R> op) {
+            final long stamp = lock.readLock();
+            try {
+                return op.get();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * Runs op under the write lock.
+         */
+        private <R> R write(Supplier<R> op) {
+            final long stamp = lock.writeLock();
+            try {
+                return op.get();
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+}
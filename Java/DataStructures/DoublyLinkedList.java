@@ -5,17 +5,54 @@ import org.jetbrains.annotations.NotNull;
 import java.security.InvalidParameterException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
 
 public class DoublyLinkedList<E> extends AbstractLinkedList<E> implements List<E> {
     private Node<E> first;
     private Node<E> last;
     private int len;
 
+    /**
+     * The last node resolved by {@link #node(int)} with its index, used as a third starting point for positional
+     * walks. It is always replaced as a whole and only trusted while {@link #modCount} matches. Reads write it, so
+     * concurrent reads are safe only while no write runs: a read overlapping a write can store a finger to the wrong
+     * node with the final {@link #modCount}, see {@link #cachesReads()}.
+     */
+    private Finger<E> finger;
+    /**
+     * The number of structural changes made to the List.
+     */
+    private int modCount;
+
+    /**
+     * The recycling policy of the List, null if unlinked nodes are left to the garbage collector, and the chain of
+     * recycled nodes, linked through {@code next}.
+     */
+    private final NodePool pool;
+    private Node<E> free;
+    private int freeCount;
+
     public DoublyLinkedList() {
         len = 0;
         first = null;
         last = null;
+        pool = null;
+    }
+
+    /**
+     * Creates an empty List that recycles its unlinked nodes as set by pool.
+     * @param pool The recycling policy.
+     */
+    public DoublyLinkedList(@NotNull NodePool pool) {
+        len = 0;
+        first = null;
+        last = null;
+        this.pool = Objects.requireNonNull(pool);
     }
 
     public DoublyLinkedList(@NotNull Collection<? extends E> initList) {
@@ -101,7 +138,157 @@ public class DoublyLinkedList<E> extends AbstractLinkedList<E> implements List<E
         return len;
     }
 
-    public DoublyLinkedList<E> subList(int first, int last) throws IllegalArgumentException {
+    /**
+     * Positional reads move the finger.
+     */
+    boolean cachesReads() {
+        return true;
+    }
+
+    /**
+     * Moves every item of other to the end of this List in O(1), relinking its nodes instead of copying them. other
+     * is left empty.
+     * @param other The List whose items will be moved.
+     * @throws IllegalArgumentException If other is this List.
+     */
+    public void appendAll(@NotNull DoublyLinkedList<E> other) throws IllegalArgumentException {
+        splice(len, other);
+    }
+
+    /**
+     * Moves every item of other into this List, the first of them ending up at index, relinking the nodes of other
+     * instead of copying them. It runs in the time needed to reach index, so O(1) at either end. other is left empty.
+     * @param index The index at which the first item of other will be.
+     * @param other The List whose items will be moved.
+     * @throws IndexOutOfBoundsException If the index is inaccessible.
+     * @throws IllegalArgumentException If other is this List.
+     */
+    public void splice(int index, @NotNull DoublyLinkedList<E> other)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        verifyPositionIndex(index);
+        if (other == this)
+            throw new IllegalArgumentException("A List can not be spliced into itself");
+        if (other.len == 0)
+            return;
+        linkChain(other.first, other.last, other.len, index == len ? null : node(index));
+        other.reset();
+    }
+
+    /**
+     * Splits the List at index in the time needed to reach it: the items from index on are moved, with their nodes,
+     * to a new List, and this List keeps the items before index.
+     * @param index The index of the first item to be moved.
+     * @return The new List, with the same node recycling policy as this one.
+     * @throws IndexOutOfBoundsException If the index is inaccessible.
+     */
+    public DoublyLinkedList<E> splitAt(int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+        final DoublyLinkedList<E> tail = pool == null ? new DoublyLinkedList<>() : new DoublyLinkedList<>(pool);
+        if (index == len)
+            return tail;
+        final Node<E> n = node(index);
+        final Node<E> newLast = n.prev;
+        tail.linkChain(n, last, len - index, null);
+        last = newLast;
+        if (last != null)
+            last.next = null;
+        else
+            first = null;
+        len = index;
+        modCount++;
+        return tail;
+    }
+
+    public boolean removeIf(@NotNull Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean mod = false;
+        for (Node<E> n = first; n != null; ) {
+            final Node<E> next = n.next;
+            if (filter.test(n.item)) {
+                unlink(n);
+                mod = true;
+            }
+            n = next;
+        }
+        return mod;
+    }
+
+    /**
+     * Sorts the List with a bottom-up merge sort that relinks the Nodes instead of moving the items, in O(n log n) time
+     * and O(1) extra memory. Sorted runs of 2<sup>i</sup> Nodes are kept in slot i of a fixed array and merged as soon
+     * as two of the same length exist, so the Nodes being merged were touched recently.
+     */
+    public void sort(Comparator<? super E> c) {
+        final Comparator<? super E> cmp = comparatorOf(c);
+        @SuppressWarnings("unchecked")
+        final Node<E>[] runs = (Node<E>[]) new Node<?>[32];
+        Node<E> rest = first;
+        Node<E> sorted = null;
+        boolean done = false;
+        modCount++;
+        try {
+            while (rest != null) {
+                Node<E> run = rest;
+                rest = rest.next;
+                run.next = null;
+                int i = 0;
+                for (; runs[i] != null; i++)
+                    run = mergeRuns(runs, i, run, cmp);
+                runs[i] = run;
+            }
+            for (int i = 0; i < runs.length; i++)
+                if (runs[i] != null) {
+                    if (sorted == null) {
+                        sorted = runs[i];
+                        runs[i] = null;
+                    } else
+                        sorted = mergeRuns(runs, i, sorted, cmp);
+                }
+            done = true;
+        } finally {
+            if (!done) {
+                // cmp threw: chain the runs and the Nodes not taken yet back together, in whatever order
+                sorted = rest;
+                for (Node<E> run : runs)
+                    if (run != null) {
+                        Node<E> end = run;
+                        while (end.next != null)
+                            end = end.next;
+                        end.next = sorted;
+                        sorted = run;
+                    }
+            }
+            first = sorted;
+            Node<E> prev = null;
+            for (Node<E> n = first; n != null; n = n.next) {
+                n.prev = prev;
+                prev = n;
+            }
+            last = prev;
+        }
+    }
+
+    /**
+     * Returns a view of the items from {@code first} to {@code last} backed by the nodes of the List. Creating it
+     * walks once to the nodes around the range, and positional operations on it walk from whichever end of the range
+     * is closer. Structural changes made to the List other than through the view make the view throw a
+     * {@link ConcurrentModificationException}.
+     * @param first The first position.
+     * @param last The last position.
+     * @return The view.
+     * @throws IllegalArgumentException If the {@code first} or {@code last} is out of range or if {@code first} is
+     * greater than {@code last}.
+     */
+    public List<E> subList(int first, int last) throws IllegalArgumentException {
+        verifyRange(first, last);
+        final ListEvents.BulkOp event = ListEvents.beginBulkOp();
+        final List<E> view =
+                new SubList(null, first == 0 ? null : node(first - 1), last == len ? null : node(last), last - first);
+        ListEvents.endBulkOp(event, "subList", this, len, last - first);
+        return view;
+    }
+
+    public DoublyLinkedList<E> copyOfRange(int first, int last) throws IllegalArgumentException {
         return (DoublyLinkedList<E>) subListOfList(first, last, new DoublyLinkedList<>());
     }
 
@@ -111,14 +298,47 @@ public class DoublyLinkedList<E> extends AbstractLinkedList<E> implements List<E
 
     public ListIterator<E> iterator(int start) {
         verifyPositionIndex(start);
-        return new DoublyLinkedListIterator(start);
+        final ListEvents.IteratorCreated event = ListEvents.beginIterator();
+        final ListIterator<E> it = new DoublyLinkedListIterator(start);
+        ListEvents.endIterator(event, this, start, len);
+        return it;
     }
 
     public ListIterator<E> iterator(int start, int stop) {
         verifyPositionIndex(start);
         if (start > stop)
             throw new InvalidParameterException(start + " is greater than " + stop);
-        return new DoublyLinkedListIterator(start, len - stop);
+        final ListEvents.IteratorCreated event = ListEvents.beginIterator();
+        final ListIterator<E> it = new DoublyLinkedListIterator(start, len - stop);
+        ListEvents.endIterator(event, this, start, stop);
+        return it;
+    }
+
+    /**
+     * Creates a late-binding {@link Spliterator} over the items of the List. It splits by copying growing runs of
+     * nodes into arrays and traverses the rest of the nodes directly.
+     * @return A {@link Spliterator}.
+     */
+    public Spliterator<E> spliterator() {
+        return new DoublyLinkedListSpliterator();
+    }
+
+    private class DoublyLinkedListSpliterator extends NodeSpliterator<Node<E>, E> {
+        Node<E> firstNode() {
+            return first;
+        }
+
+        int size() {
+            return len;
+        }
+
+        Node<E> next(Node<E> n) {
+            return n.next;
+        }
+
+        E item(Node<E> n) {
+            return n.item;
+        }
     }
 
     private class DoublyLinkedListIterator implements ListIterator<E> {
@@ -215,6 +435,303 @@ public class DoublyLinkedList<E> extends AbstractLinkedList<E> implements List<E
         }
     }
 
+    private class SubList extends AbstractList<E> implements List<E> {
+        private final SubList parent;
+        /**
+         * The nodes right before and right after the range, null if it starts at the first node or ends at the last.
+         * Changes made through the view never unlink them.
+         */
+        private final Node<E> before;
+        private final Node<E> after;
+        private int size;
+        private int expectedModCount;
+
+        SubList(SubList parent, Node<E> before, Node<E> after, int size) {
+            this.parent = parent;
+            this.before = before;
+            this.after = after;
+            this.size = size;
+            expectedModCount = modCount;
+        }
+
+        public void addFirst(E item) {
+            add(item, 0);
+        }
+
+        public void add(E item, int index) throws IndexOutOfBoundsException {
+            checkForComodification();
+            verifyPositionIndex(index);
+            if (index != size)
+                linkBefore(item, rangeNode(index));
+            else if (after != null)
+                linkBefore(item, after);
+            else
+                linkLast(item);
+            changed(1);
+        }
+
+        public void addLast(E item) {
+            add(item, size());
+        }
+
+        public E removeFirst() throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return remove(0);
+        }
+
+        public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+            checkForComodification();
+            verifyElementIndex(index);
+            final E remE = unlink(rangeNode(index));
+            changed(-1);
+            return remE;
+        }
+
+        public E removeLast() throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return remove(size - 1);
+        }
+
+        public E getFirst() throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return head().item;
+        }
+
+        public E get(int index) throws IndexOutOfBoundsException {
+            checkForComodification();
+            verifyElementIndex(index);
+            return rangeNode(index).item;
+        }
+
+        public E getLast() throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return tail().item;
+        }
+
+        public E setFirst(E item) throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return setNode(item, head());
+        }
+
+        public E set(E item, int index) throws IndexOutOfBoundsException {
+            checkForComodification();
+            verifyElementIndex(index);
+            return setNode(item, rangeNode(index));
+        }
+
+        public E setLast(E item) throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return setNode(item, tail());
+        }
+
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        public boolean removeIf(@NotNull Predicate<? super E> filter) {
+            Objects.requireNonNull(filter);
+            checkForComodification();
+            int removed = 0;
+            try {
+                Node<E> n = head();
+                for (int i = size; i > 0; i--) {
+                    final Node<E> next = n.next;
+                    if (filter.test(n.item)) {
+                        unlink(n);
+                        removed++;
+                    }
+                    n = next;
+                }
+            } finally {
+                changed(-removed);
+            }
+            return removed != 0;
+        }
+
+        public void clear() {
+            checkForComodification();
+            final int removed = size;
+            Node<E> n = head();
+            for (int i = removed; i > 0; i--) {
+                final Node<E> next = n.next;
+                unlink(n);
+                n = next;
+            }
+            changed(-removed);
+        }
+
+        public List<E> subList(int first, int last) throws IllegalArgumentException {
+            checkForComodification();
+            verifyRange(first, last);
+            return new SubList(this, first == 0 ? before : rangeNode(first - 1), last == size ? after : rangeNode(last),
+                    last - first);
+        }
+
+        public DoublyLinkedList<E> copyOfRange(int first, int last) throws IllegalArgumentException {
+            return (DoublyLinkedList<E>) subListOfList(first, last, new DoublyLinkedList<>());
+        }
+
+        public ListIterator<E> iterator() {
+            return iterator(0);
+        }
+
+        public ListIterator<E> iterator(int start) {
+            checkForComodification();
+            verifyPositionIndex(start);
+            return new SubListIterator(start, 0);
+        }
+
+        public ListIterator<E> iterator(int start, int stop) {
+            checkForComodification();
+            verifyPositionIndex(start);
+            if (start > stop)
+                throw new InvalidParameterException(start + " is greater than " + stop);
+            return new SubListIterator(start, size - stop);
+        }
+
+        private Node<E> head() {
+            return before == null ? first : before.next;
+        }
+
+        private Node<E> tail() {
+            return after == null ? last : after.prev;
+        }
+
+        /**
+         * Finds the node at index of the view walking from the closer end of the range.
+         */
+        private Node<E> rangeNode(int index) {
+            // assert isElementIndex(index);
+            Node<E> n;
+            if (index < size >> 1) {
+                n = head();
+                for (int i = 0; i < index; i++)
+                    n = n.next;
+                NodeHops.add(index);
+            } else {
+                n = tail();
+                for (int i = size - 1; i > index; i--)
+                    n = n.prev;
+                NodeHops.add(size - 1 - index);
+            }
+            return n;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        /**
+         * Records that delta items were added through the view, in it and in every view it was taken from.
+         */
+        private void changed(int delta) {
+            for (SubList s = this; s != null; s = s.parent) {
+                s.size += delta;
+                s.expectedModCount = modCount;
+            }
+        }
+
+        private class SubListIterator implements ListIterator<E> {
+            private Node<E> next;
+            private Node<E> lastRet = null;
+            private int nextI;
+            private int lastRetI;
+            private final int stopDist;
+
+            SubListIterator(int i, int stopDist) {
+                lastRetI = nextI = i;
+                this.stopDist = stopDist;
+                next = i == size ? after : rangeNode(i);
+            }
+
+            public boolean hasNext() {
+                return nextI != size - stopDist;
+            }
+
+            public boolean hasPrevious() {
+                return nextI != 0;
+            }
+
+            public E next() throws NoSuchElementException {
+                checkForComodification();
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                lastRet = next;
+                next = next.next;
+                lastRetI = nextI;
+                nextI++;
+                return lastRet.item;
+            }
+
+            public E previous() throws NoSuchElementException {
+                checkForComodification();
+                if (!hasPrevious())
+                    throw new NoSuchElementException();
+                lastRet = next = next != null ? next.prev : last;
+                lastRetI = --nextI;
+                return lastRet.item;
+            }
+
+            public void remove() throws IllegalStateException {
+                checkForComodification();
+                if (lastRet == null)
+                    throw new IllegalStateException();
+                if (lastRet != next)
+                    nextI--;
+                else
+                    next = lastRet.next;
+                unlink(lastRet);
+                changed(-1);
+                lastRet = null;
+            }
+
+            public void add(E item) throws IllegalStateException {
+                checkForComodification();
+                if (lastRet == null)
+                    throw new IllegalStateException();
+                if (next != null)
+                    linkBefore(item, next);
+                else
+                    linkLast(item);
+                changed(1);
+                nextI++;
+                lastRet = null;
+            }
+
+            public int index() {
+                return lastRetI;
+            }
+
+            public int nextIndex() {
+                return nextI;
+            }
+
+            public int prevIndex() {
+                return nextI - 1;
+            }
+
+            public E get() throws IllegalStateException {
+                if (lastRet == null)
+                    throw new IllegalStateException();
+                return lastRet.item;
+            }
+
+            public E set(E item) throws IllegalStateException {
+                if (lastRet == null)
+                    throw new IllegalStateException();
+                return setNode(item, lastRet);
+            }
+        }
+    }
+
     private static class Node<E> {
         E item;
         Node<E> next, prev;
@@ -234,32 +751,122 @@ public class DoublyLinkedList<E> extends AbstractLinkedList<E> implements List<E
         }
     }
 
+    private static final class Finger<E> {
+        final Node<E> node;
+        final int index;
+        final int modCount;
+
+        Finger(Node<E> node, int index, int modCount) {
+            this.node = node;
+            this.index = index;
+            this.modCount = modCount;
+        }
+    }
+
+    /**
+     * Finds the node at index walking from whichever of first, last or the finger is closest to it, and moves the
+     * finger to the found node.
+     */
     private Node<E> node(int index) {
         // assert isElementIndex(index);
 
+        final int mc = modCount;
         Node<E> n;
-        if (index < len >> 2) {
+        int i;
+        if (index < len - 1 - index) {
             n = first;
-            for (int i = 0; i < index; i++)
-                n = n.next;
+            i = 0;
         } else {
             n = last;
-            for (int i = len - 1; i > index; i--)
-                n = n.prev;
+            i = len - 1;
+        }
+        final Finger<E> f = finger;
+        if (f != null && f.modCount == mc && Math.abs(index - f.index) < Math.abs(index - i)) {
+            n = f.node;
+            i = f.index;
         }
+        final int hops = Math.abs(index - i);
+        NodeHops.add(hops);
+        ListEvents.nodeWalk(this, len, index, hops);
+
+        for (; i < index; i++)
+            n = n.next;
+        for (; i > index; i--)
+            n = n.prev;
+
+        if (f == null || f.node != n || f.modCount != mc)
+            finger = new Finger<>(n, index, mc);
         return n;
     }
 
+    /**
+     * Records a structural change. If the finger was valid and at expected, it is moved to the node to, shifting its
+     * index by shift, otherwise it is dropped.
+     */
+    private void moveFinger(Node<E> expected, Node<E> to, int shift) {
+        final Finger<E> f = finger;
+        if (f != null && f.modCount == modCount && f.node == expected && to != null)
+            finger = new Finger<>(to, f.index + shift, modCount + 1);
+        else
+            finger = null;
+        modCount++;
+    }
+
+    /**
+     * Merges the run in runs[i] with a run of Nodes that come after it, emptying the slot, and returns the merged run.
+     * Ties take from runs[i] first, which keeps the sort stable. If cmp throws, every Node of both runs is left
+     * chained in runs[i].
+     */
+    private static <E> Node<E> mergeRuns(Node<E>[] runs, int i, Node<E> later, Comparator<? super E> cmp) {
+        Node<E> a = runs[i];
+        Node<E> b = later;
+        Node<E> head = null;
+        Node<E> tail = null;
+        try {
+            while (a != null && b != null) {
+                final Node<E> n;
+                if (cmp.compare(b.item, a.item) < 0) {
+                    n = b;
+                    b = b.next;
+                } else {
+                    n = a;
+                    a = a.next;
+                }
+                if (tail == null)
+                    head = n;
+                else
+                    tail.next = n;
+                tail = n;
+            }
+        } finally {
+            Node<E> rest = b;
+            if (a != null) {
+                rest = a;
+                while (a.next != null)
+                    a = a.next;
+                a.next = b;
+            }
+            if (tail == null)
+                head = rest;
+            else
+                tail.next = rest;
+            runs[i] = head;
+        }
+        runs[i] = null;
+        return head;
+    }
+
     /**
      * Link a node containing e to the first position of the List.
      */
     private void linkFirst(E e) {
         final Node<E> f = first;
-        first = new Node<>(e, f);
+        first = newNode(null, e, f);
         if (f == null)
             last = first;
         else
             f.prev = first;
+        modCount++;
         len++;
     }
 
@@ -268,22 +875,52 @@ public class DoublyLinkedList<E> extends AbstractLinkedList<E> implements List<E
      */
     private void linkLast(E e) {
         final Node<E> l = last;
-        last = new Node<>(l, e);
+        last = newNode(l, e, null);
         if (l == null)
             first = last;
         else
             l.next = last;
+        modCount++;
         len++;
     }
 
+    /**
+     * Links the chain of count nodes from head to tail before next, or at the end of the List if next is null.
+     */
+    private void linkChain(Node<E> head, Node<E> tail, int count, Node<E> next) {
+        final Node<E> prev = next != null ? next.prev : last;
+        head.prev = prev;
+        tail.next = next;
+        if (prev != null)
+            prev.next = head;
+        else
+            first = head;
+        if (next != null)
+            next.prev = tail;
+        else
+            last = tail;
+        modCount++;
+        len += count;
+    }
+
+    /**
+     * Empties the List without touching its nodes, after they were moved to another List.
+     */
+    private void reset() {
+        first = last = null;
+        len = 0;
+        modCount++;
+    }
+
     private void linkBefore(E e, Node<E> next) {
         final Node<E> prev = next.prev;
-        final Node<E> newNode = new Node<>(prev, e, next);
+        final Node<E> newNode = newNode(prev, e, next);
         next.prev = newNode;
         if (prev != null)
             prev.next = newNode;
         else
             first = newNode;
+        moveFinger(next, next, 1);
         len++;
     }
 
@@ -293,12 +930,13 @@ public class DoublyLinkedList<E> extends AbstractLinkedList<E> implements List<E
     private void linkAfter(E e, Node<E> prev) {
         // assert prev != null
         final Node<E> next = prev.next;
-        final Node<E> newNode = new Node<>(prev, e, next);
+        final Node<E> newNode = newNode(prev, e, next);
         prev.next = newNode;
         if (next != null)
             next.prev = newNode;
         else
             last = newNode;
+        moveFinger(prev, prev, 0);
         len++;
     }
 
@@ -315,7 +953,9 @@ public class DoublyLinkedList<E> extends AbstractLinkedList<E> implements List<E
             first.prev = null;
         else
             last = null;
+        modCount++;
         len--;
+        recycle(f);
         return remE;
     }
 
@@ -332,7 +972,9 @@ public class DoublyLinkedList<E> extends AbstractLinkedList<E> implements List<E
             last.next = null;
         else
             first = null;
+        modCount++;
         len--;
+        recycle(l);
         return remE;
     }
 
@@ -357,10 +999,48 @@ public class DoublyLinkedList<E> extends AbstractLinkedList<E> implements List<E
             node.prev = null;
         } else
             first = next;
+        // the node after the removed one takes its index
+        moveFinger(node, next, 0);
         len--;
+        recycle(node);
         return remE;
     }
 
+    /**
+     * Takes a node from the free chain, or allocates one if it is empty, and fills it.
+     */
+    private Node<E> newNode(Node<E> prev, E item, Node<E> next) {
+        final Node<E> n = free;
+        if (n == null) {
+            if (pool != null)
+                pool.miss();
+            return new Node<>(prev, item, next);
+        }
+        free = n.next;
+        freeCount--;
+        pool.hit();
+        n.prev = prev;
+        n.item = item;
+        n.next = next;
+        return n;
+    }
+
+    /**
+     * Keeps an unlinked node, whose item is already cleared, in the free chain if the pool has room for it.
+     */
+    private void recycle(Node<E> n) {
+        if (pool == null)
+            return;
+        if (freeCount < pool.capacity()) {
+            n.prev = null;
+            n.next = free;
+            free = n;
+            freeCount++;
+            pool.recycle();
+        } else
+            pool.drop();
+    }
+
     /**
      * Sets the item of a node to the given item.
      */
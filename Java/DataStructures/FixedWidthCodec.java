@@ -0,0 +1,79 @@
+package DataStructures;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes items of type E to, and decodes them from, a fixed amount of bytes, so Lists can store them outside of
+ * the Java heap.
+ * <p>
+ * Implementations must use the absolute get and put methods of {@link ByteBuffer}, never its position or limit, and
+ * must not touch bytes outside of {@code [offset, offset + width())}.
+ * </p>
+ * @param <E> The type of the encoded items.
+ * @author Eduardo Costa de Souza
+ * @see OffHeapList
+ */
+public interface FixedWidthCodec<E> {
+    /**
+     * @return The amount of bytes taken by every encoded item.
+     */
+    int width();
+
+    /**
+     * Writes item at offset.
+     * @param item The item to be written.
+     * @param buffer The buffer to write to.
+     * @param offset The offset of the first byte of the item in buffer.
+     */
+    void write(E item, ByteBuffer buffer, int offset);
+
+    /**
+     * Reads the item at offset.
+     * @param buffer The buffer to read from.
+     * @param offset The offset of the first byte of the item in buffer.
+     * @return The read item.
+     */
+    E read(ByteBuffer buffer, int offset);
+
+    FixedWidthCodec<Integer> INT = new FixedWidthCodec<>() {
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        public void write(Integer item, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, item);
+        }
+
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    FixedWidthCodec<Long> LONG = new FixedWidthCodec<>() {
+        public int width() {
+            return Long.BYTES;
+        }
+
+        public void write(Long item, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, item);
+        }
+
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    FixedWidthCodec<Double> DOUBLE = new FixedWidthCodec<>() {
+        public int width() {
+            return Double.BYTES;
+        }
+
+        public void write(Double item, ByteBuffer buffer, int offset) {
+            buffer.putDouble(offset, item);
+        }
+
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+}
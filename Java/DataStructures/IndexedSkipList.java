@@ -0,0 +1,421 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * An implementation of a {@link List} using a skip list whose links know how many items they skip.
+ * <p>
+ * Every Node is linked at the bottom level, in order and in both directions, and a random number of the levels above
+ * it, each level holding about a quarter of the Nodes of the one below. Each link also stores its span, the number of
+ * bottom level steps it jumps over, so the Node at an index is found descending from the top level in O(log n)
+ * expected steps, and {@link #get(int)}, {@link #set(Object, int)}, {@link #add(Object, int)} and
+ * {@link #remove(int)} all run in O(log n) expected time. Iteration walks the bottom level.
+ * </p>
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see List
+ * @see ListIterator
+ */
+public class IndexedSkipList<E> extends AbstractLinkedList<E> implements List<E> {
+    private static final int MAX_LEVEL = 24;
+
+    /**
+     * A Node without item holding the first link of every level. A link with no next Node has as span the number of
+     * Nodes after the one it leaves, so spans stay right when Nodes are linked at the end of a level.
+     */
+    private final Node<E> head;
+    private Node<E> last;
+    private int level;
+    private int len;
+    private int seed;
+
+    public IndexedSkipList() {
+        head = new Node<>(null, MAX_LEVEL);
+        level = 1;
+        len = 0;
+        last = null;
+        seed = System.identityHashCode(this) | 1;
+    }
+
+    /**
+     * Builds the List in O(n), linking each new Node after the last Node of each of its levels.
+     */
+    public IndexedSkipList(@NotNull Collection<? extends E> initList) {
+        this();
+        @SuppressWarnings("unchecked")
+        final Node<E>[] lasts = (Node<E>[]) new Node<?>[MAX_LEVEL];
+        final int[] lastRanks = new int[MAX_LEVEL];
+        Arrays.fill(lasts, head);
+        for (E item : initList) {
+            final Node<E> n = new Node<>(item, randomLevel());
+            len++;
+            for (int i = 0; i < n.next.length; i++) {
+                lasts[i].next[i] = n;
+                lasts[i].span[i] = len - lastRanks[i];
+                lasts[i] = n;
+                lastRanks[i] = len;
+            }
+            level = Math.max(level, n.next.length);
+            n.prev = last;
+            last = n;
+        }
+        for (int i = 0; i < MAX_LEVEL; i++)
+            lasts[i].span[i] = len - lastRanks[i];
+    }
+
+    @SafeVarargs
+    public IndexedSkipList(E ... initList) {
+        this(Arrays.asList(initList));
+    }
+
+    public void addFirst(E item) {
+        link(item, 0);
+    }
+
+    public void add(E item, int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+        link(item, index);
+    }
+
+    public void addLast(E item) {
+        link(item, len);
+    }
+
+    public E removeFirst() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return unlink(0);
+    }
+
+    public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+        verifyElementIndex(index);
+        return unlink(index);
+    }
+
+    public E removeLast() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return unlink(len - 1);
+    }
+
+    public E getFirst() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return head.next[0].item;
+    }
+
+    public E get(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return node(index).item;
+    }
+
+    public E getLast() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return last.item;
+    }
+
+    public E setFirst(E item) throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return setNode(item, head.next[0]);
+    }
+
+    public E set(E item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return setNode(item, node(index));
+    }
+
+    public E setLast(E item) throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return setNode(item, last);
+    }
+
+    public int size() {
+        return len;
+    }
+
+    public boolean contains(Object o) {
+        for (Node<E> n = head.next[0]; n != null; n = n.next[0])
+            if (Objects.equals(o, n.item))
+                return true;
+        return false;
+    }
+
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Node<E> n = head.next[0]; n != null; n = n.next[0])
+            action.accept(n.item);
+    }
+
+    public Object[] toArray() {
+        final Object[] arr = new Object[len];
+        int i = 0;
+        for (Node<E> n = head.next[0]; n != null; n = n.next[0])
+            arr[i++] = n.item;
+        return arr;
+    }
+
+    public void clear() {
+        Arrays.fill(head.next, null);
+        Arrays.fill(head.span, 0);
+        level = 1;
+        len = 0;
+        last = null;
+    }
+
+    public IndexedSkipList<E> copyOfRange(int first, int last) throws IllegalArgumentException {
+        return (IndexedSkipList<E>) subListOfList(first, last, new IndexedSkipList<>());
+    }
+
+    public ListIterator<E> iterator() {
+        return new IndexedSkipListIterator(0, 0);
+    }
+
+    public ListIterator<E> iterator(int start) {
+        verifyPositionIndex(start);
+        return new IndexedSkipListIterator(start, 0);
+    }
+
+    public ListIterator<E> iterator(int start, int stop) {
+        verifyPositionIndex(start);
+        if (start > stop)
+            throw new InvalidParameterException(start + " is greater than " + stop);
+        return new IndexedSkipListIterator(start, len - stop);
+    }
+
+    private class IndexedSkipListIterator implements ListIterator<E> {
+        private Node<E> next;
+        private Node<E> lastRet = null;
+        private int nextI;
+        private int lastRetI;
+        private final int stopDist;
+
+        IndexedSkipListIterator(int i, int stopDist) {
+            lastRetI = nextI = i;
+            this.stopDist = stopDist;
+            next = i == len ? null : node(i);
+        }
+
+        public boolean hasNext() {
+            return nextI != len - stopDist;
+        }
+
+        public boolean hasPrevious() {
+            return nextI != 0;
+        }
+
+        public E next() throws NoSuchElementException {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            lastRet = next;
+            next = next.next[0];
+            lastRetI = nextI;
+            nextI++;
+            return lastRet.item;
+        }
+
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            lastRet = next = next != null ? next.prev : last;
+            lastRetI = --nextI;
+            return lastRet.item;
+        }
+
+        public void remove() throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            if (lastRet != next)
+                nextI--;
+            else
+                next = lastRet.next[0];
+            unlink(lastRetI);
+            lastRet = null;
+        }
+
+        public void add(E item) throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            link(item, nextI);
+            nextI++;
+            lastRet = null;
+        }
+
+        public int index() {
+            return lastRetI;
+        }
+
+        public int nextIndex() {
+            return nextI;
+        }
+
+        public int prevIndex() {
+            return nextI - 1;
+        }
+
+        public E get() throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            return lastRet.item;
+        }
+
+        public E set(E item) throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            return setNode(item, lastRet);
+        }
+    }
+
+    private static class Node<E> {
+        E item;
+        Node<E> prev;
+        final Node<E>[] next;
+        final int[] span;
+
+        @SuppressWarnings("unchecked")
+        Node(E item, int level) {
+            this.item = item;
+            next = (Node<E>[]) new Node<?>[level];
+            span = new int[level];
+        }
+    }
+
+    /**
+     * Finds the Node at index descending from the top level.
+     */
+    private Node<E> node(int index) {
+        // assert isElementIndex(index);
+        final int rank = index + 1;
+        Node<E> x = head;
+        int traversed = 0;
+        int hops = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+                hops++;
+            }
+            if (traversed == rank) {
+                NodeHops.add(hops);
+                return x;
+            }
+        }
+        throw new AssertionError();
+    }
+
+    /**
+     * Fills update with the last Node of each level that comes before index, and ranks with their positions counting
+     * the head as 0.
+     */
+    private void findPredecessors(int index, Node<E>[] update, int[] ranks) {
+        Node<E> x = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= index) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+            ranks[i] = traversed;
+        }
+    }
+
+    /**
+     * Links a Node containing item so that it ends up at index.
+     */
+    private void link(E item, int index) {
+        final int lvl = randomLevel();
+        @SuppressWarnings("unchecked")
+        final Node<E>[] update = (Node<E>[]) new Node<?>[Math.max(level, lvl)];
+        final int[] ranks = new int[update.length];
+        findPredecessors(index, update, ranks);
+
+        final Node<E> n = new Node<>(item, lvl);
+        for (; level < lvl; level++) {
+            update[level] = head;
+            ranks[level] = 0;
+            head.span[level] = len;
+        }
+        for (int i = 0; i < lvl; i++) {
+            final Node<E> u = update[i];
+            n.next[i] = u.next[i];
+            u.next[i] = n;
+            n.span[i] = u.span[i] - (ranks[0] - ranks[i]);
+            u.span[i] = ranks[0] - ranks[i] + 1;
+        }
+        for (int i = lvl; i < level; i++)
+            update[i].span[i]++;
+
+        n.prev = update[0] == head ? null : update[0];
+        if (n.next[0] != null)
+            n.next[0].prev = n;
+        else
+            last = n;
+        len++;
+    }
+
+    /**
+     * Unlinks the Node at index and returns its item.
+     */
+    private E unlink(int index) {
+        // assert isElementIndex(index);
+        @SuppressWarnings("unchecked")
+        final Node<E>[] update = (Node<E>[]) new Node<?>[level];
+        final int[] ranks = new int[level];
+        findPredecessors(index, update, ranks);
+
+        final Node<E> n = update[0].next[0];
+        for (int i = 0; i < level; i++) {
+            final Node<E> u = update[i];
+            if (u.next[i] == n) {
+                u.span[i] += n.span[i] - 1;
+                u.next[i] = n.next[i];
+            } else
+                u.span[i]--;
+        }
+        if (n.next[0] != null)
+            n.next[0].prev = n.prev;
+        else
+            last = n.prev;
+        while (level > 1 && head.next[level - 1] == null)
+            level--;
+        len--;
+
+        final E remE = n.item;
+        n.item = null;
+        n.prev = null;
+        return remE;
+    }
+
+    /**
+     * Draws a level from 1 to {@link #MAX_LEVEL}, each level being a quarter as likely as the one below.
+     */
+    private int randomLevel() {
+        // xorshift
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return Math.min(1 + (Integer.numberOfTrailingZeros(x) >>> 1), MAX_LEVEL);
+    }
+
+    /**
+     * Sets the item of a node to the given item.
+     */
+    private E setNode(E item, Node<E> node) {
+        // assert node != null
+        final E oldItem = node.item;
+        node.item = item;
+        return oldItem;
+    }
+}
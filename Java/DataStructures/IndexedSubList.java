@@ -0,0 +1,60 @@
+package DataStructures;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A view of a range of a {@link List} written in terms of the positional operations of the List. It is the
+ * {@link List#subList(int, int)} of lists that reach an index cheaply.
+ * @param <E> The type of element stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see AbstractIndexedList
+ */
+class IndexedSubList<E> extends AbstractIndexedList<E> implements List<E> {
+    private final List<E> list;
+    private final int offset;
+    private int len;
+
+    IndexedSubList(List<E> list, int first, int last) {
+        // assert 0 <= first && first <= last && last <= list.size()
+        this.list = list;
+        offset = first;
+        len = last - first;
+    }
+
+    public int size() {
+        return len;
+    }
+
+    boolean cachesReads() {
+        return list instanceof AbstractList<?> l && l.cachesReads();
+    }
+
+    public E get(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return list.get(offset + index);
+    }
+
+    public E set(E item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return list.set(item, offset + index);
+    }
+
+    public void add(E item, int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+        list.add(item, offset + index);
+        len++;
+    }
+
+    public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+        verifyElementIndex(index);
+        final E remE = list.remove(offset + index);
+        len--;
+        return remE;
+    }
+
+    public void clear() {
+        // from the end, so array backed lists do not shift the rest of the range on every removal
+        while (len > 0)
+            list.remove(offset + --len);
+    }
+}
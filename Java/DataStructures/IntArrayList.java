@@ -0,0 +1,211 @@
+package DataStructures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * An implementation of a {@link IntList} using a resizable array of {@code int}.
+ * @author Eduardo Costa de Souza
+ * @see IntList
+ * @see ArrayList
+ */
+public class IntArrayList extends AbstractPrimitiveList implements IntList {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] items;
+    private int len;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty List with room for capacity items before it has to grow. {@code new IntArrayList(5)}
+     * holds the item 5 instead.
+     * @param capacity The initial capacity.
+     * @return The empty List.
+     * @throws IllegalArgumentException If capacity is negative.
+     */
+    public static IntArrayList withCapacity(int capacity) {
+        return new IntArrayList(capacity);
+    }
+
+    private IntArrayList(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        items = new int[capacity];
+        len = 0;
+    }
+
+    public IntArrayList(int ... initList) {
+        items = initList.clone();
+        len = items.length;
+    }
+
+    public void addFirst(int item) {
+        add(item, 0);
+    }
+
+    public void add(int item, int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+        if (len == items.length)
+            grow(len + 1);
+        System.arraycopy(items, index, items, index + 1, len - index);
+        items[index] = item;
+        len++;
+    }
+
+    public void addLast(int item) {
+        if (len == items.length)
+            grow(len + 1);
+        items[len++] = item;
+    }
+
+    public int removeFirstInt() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return removeAt(0);
+    }
+
+    public int removeInt(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return removeAt(index);
+    }
+
+    public int removeLastInt() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return items[--len];
+    }
+
+    public int getFirstInt() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return items[0];
+    }
+
+    public int getInt(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return items[index];
+    }
+
+    public int getLastInt() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return items[len - 1];
+    }
+
+    public int setInt(int item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        final int oldItem = items[index];
+        items[index] = item;
+        return oldItem;
+    }
+
+    public int size() {
+        return len;
+    }
+
+    public boolean contains(int item) {
+        for (int i = 0; i < len; i++)
+            if (items[i] == item)
+                return true;
+        return false;
+    }
+
+    public void clear() {
+        len = 0;
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int nextI = 0;
+
+            public boolean hasNext() {
+                return nextI < len;
+            }
+
+            public int nextInt() {
+                if (nextI >= len)
+                    throw new NoSuchElementException();
+                return items[nextI++];
+            }
+        };
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < len; i++)
+            sum += items[i];
+        return sum;
+    }
+
+    public int min() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        int min = items[0];
+        for (int i = 1; i < len; i++)
+            min = Math.min(min, items[i]);
+        return min;
+    }
+
+    public int max() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        int max = items[0];
+        for (int i = 1; i < len; i++)
+            max = Math.max(max, items[i]);
+        return max;
+    }
+
+    public int[] toIntArray() {
+        return Arrays.copyOf(items, len);
+    }
+
+    public List<Integer> asList() {
+        return new IntListView(this);
+    }
+
+    /**
+     * Increases the capacity of the List, if necessary, so that it can hold at least {@code minCapacity} items
+     * without being resized.
+     * @param minCapacity The desired minimum capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > items.length)
+            grow(minCapacity);
+    }
+
+    /**
+     * Trims the capacity of the List to its current size.
+     */
+    public void trimToSize() {
+        if (len < items.length)
+            items = Arrays.copyOf(items, len);
+    }
+
+    public String toString() {
+        return Arrays.toString(toIntArray());
+    }
+
+    /**
+     * Grows the backing array by half of its length, or to minCapacity if that is not enough.
+     */
+    private void grow(int minCapacity) {
+        int newCapacity = items.length + (items.length >> 1);
+        if (newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        items = Arrays.copyOf(items, newCapacity);
+    }
+
+    /**
+     * Removes the item at index, shifting every following item one position to the left, and returns it.
+     */
+    private int removeAt(int index) {
+        final int remE = items[index];
+        System.arraycopy(items, index + 1, items, index, len - index - 1);
+        len--;
+        return remE;
+    }
+}
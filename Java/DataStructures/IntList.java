@@ -0,0 +1,148 @@
+package DataStructures;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A specialization of {@link List} that stores {@code int} values without boxing them.
+ * <p>
+ * It does not implement {@link List} itself, use {@link #asList()} to pass it to code written against
+ * {@code List<Integer>}.
+ * </p>
+ * @author Eduardo Costa de Souza
+ * @see List
+ */
+public interface IntList {
+    /**
+     * Inserts an item in the first index of the List.
+     * @param item The item to be inserted.
+     */
+    void addFirst(int item);
+
+    /**
+     * Inserts an item at the given index of the List.
+     * @param item The item to be inserted.
+     * @param index The index in which the item will be inserted.
+     * @throws IndexOutOfBoundsException If index is out of bounds.
+     */
+    void add(int item, int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Appends an item at the end of the List.
+     * @param item The item to be appended.
+     */
+    void addLast(int item);
+
+    /**
+     * Removes the first item of the List.
+     * @return The removed item.
+     * @throws NoSuchElementException If the List is empty.
+     */
+    int removeFirstInt() throws NoSuchElementException;
+
+    /**
+     * Removes an item at the specified index of the List.
+     * @param index The index of the item to be removed.
+     * @return The removed item.
+     * @throws IndexOutOfBoundsException If index is out of bounds.
+     */
+    int removeInt(int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Removes the last item of the List.
+     * @return The removed item.
+     * @throws NoSuchElementException If the List is empty.
+     */
+    int removeLastInt() throws NoSuchElementException;
+
+    /**
+     * Get the first item of the List.
+     * @return The item.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    int getFirstInt() throws NoSuchElementException;
+
+    /**
+     * Get the item at the specified index.
+     * @param index The index of the item to be got.
+     * @return The item at the index.
+     * @throws IndexOutOfBoundsException If index is out of bounds.
+     */
+    int getInt(int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Get the last item of the List.
+     * @return The item.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    int getLastInt() throws NoSuchElementException;
+
+    /**
+     * Replaces the item at the specified position for the given item.
+     * @param item The item to be stored at the specified index.
+     * @param index The index of the item to be replaced.
+     * @return The previous item at the position;
+     * @throws IndexOutOfBoundsException If the index is inaccessible.
+     */
+    int setInt(int item, int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Gets the size of the List.
+     * @return The size.
+     */
+    int size();
+
+    /**
+     * Tells if the List is empty.
+     * @return {@code true} the List is empty.
+     */
+    boolean isEmpty();
+
+    /**
+     * If the List contains an item.
+     * @param item The item.
+     * @return {@code true} if the List contains {@code item}.
+     */
+    boolean contains(int item);
+
+    /**
+     * Empties the List.
+     */
+    void clear();
+
+    /**
+     * Returns an iterator over the items of the List that does not box them.
+     * @return A {@link PrimitiveIterator.OfInt}.
+     */
+    PrimitiveIterator.OfInt iterator();
+
+    /**
+     * @return The sum of every item of the List as a {@code long}, so it does not overflow, {@code 0} if it is empty.
+     */
+    long sum();
+
+    /**
+     * @return The smallest item of the List.
+     * @throws NoSuchElementException If the List is empty.
+     */
+    int min() throws NoSuchElementException;
+
+    /**
+     * @return The greatest item of the List.
+     * @throws NoSuchElementException If the List is empty.
+     */
+    int max() throws NoSuchElementException;
+
+    /**
+     * Copies the List to a new array with the size of {@link #size()}.
+     * @return The new array.
+     */
+    int[] toIntArray();
+
+    /**
+     * Returns a {@link List} view of this List. Changes made through the view write through to this List and every
+     * item is boxed when read.
+     * @return The view.
+     */
+    List<Integer> asList();
+}
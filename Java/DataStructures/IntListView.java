@@ -0,0 +1,50 @@
+package DataStructures;
+
+/**
+ * A boxed {@link List} view over a {@link IntList}.
+ * @author Eduardo Costa de Souza
+ * @see IntList#asList()
+ */
+class IntListView extends AbstractIndexedList<Integer> implements List<Integer> {
+    private final IntList list;
+
+    IntListView(IntList list) {
+        this.list = list;
+    }
+
+    public int size() {
+        return list.size();
+    }
+
+    public Integer get(int index) throws IndexOutOfBoundsException {
+        return list.getInt(index);
+    }
+
+    public Integer set(Integer item, int index) throws IndexOutOfBoundsException {
+        return list.setInt(item, index);
+    }
+
+    public void add(Integer item, int index) throws IndexOutOfBoundsException {
+        list.add(item, index);
+    }
+
+    public Integer remove(int index) throws IndexOutOfBoundsException {
+        return list.removeInt(index);
+    }
+
+    public void addFirst(Integer item) {
+        list.addFirst(item);
+    }
+
+    public void addLast(Integer item) {
+        list.addLast(item);
+    }
+
+    public boolean contains(Object o) {
+        return o instanceof Integer i && list.contains(i);
+    }
+
+    public void clear() {
+        list.clear();
+    }
+}
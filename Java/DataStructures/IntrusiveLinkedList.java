@@ -0,0 +1,564 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An implementation of a {@link List} whose items are their own Nodes: each item extends {@link Linkable} and carries
+ * the links to its neighbours.
+ * <p>
+ * Linking an item allocates nothing, and an item knows the List it is in, so {@link #unlink(Linkable)},
+ * {@link #moveToFront(Linkable)}, {@link #insertAfter(Linkable, Linkable)}, {@link #contains(Object)} and
+ * {@link #remove(Object)} run in O(1) without searching. As a consequence an item can be in a single List at a time,
+ * {@code null} can not be stored, and {@link #contains(Object)} and {@link #remove(Object)} compare items by identity.
+ * </p>
+ * <pre>{@code
+ * class Timer extends IntrusiveLinkedList.Linkable<Timer> { ... }
+ *
+ * IntrusiveLinkedList<Timer> timers = new IntrusiveLinkedList<>();
+ * timers.addLast(timer);
+ * timers.unlink(timer);
+ * }</pre>
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see List
+ * @see ListIterator
+ */
+public class IntrusiveLinkedList<E extends IntrusiveLinkedList.Linkable<E>> extends AbstractLinkedList<E>
+        implements List<E> {
+    private E first;
+    private E last;
+    private int len;
+
+    /**
+     * The links an item needs to be stored in an {@link IntrusiveLinkedList}. They are only written by the List the
+     * item is in.
+     * @param <E> The type of the item itself.
+     */
+    public abstract static class Linkable<E extends Linkable<E>> {
+        E prev;
+        E next;
+        IntrusiveLinkedList<E> list;
+
+        protected Linkable() {
+        }
+
+        /**
+         * @return {@code true} if the item is in an {@link IntrusiveLinkedList}.
+         */
+        public final boolean isLinked() {
+            return list != null;
+        }
+    }
+
+    public IntrusiveLinkedList() {
+        len = 0;
+        first = null;
+        last = null;
+    }
+
+    public IntrusiveLinkedList(@NotNull Collection<? extends E> initList) {
+        this();
+        for (E item : initList)
+            addLast(item);
+    }
+
+    @SafeVarargs
+    public IntrusiveLinkedList(E ... initList) {
+        this(Arrays.asList(initList));
+    }
+
+    public void addFirst(E item) {
+        linkBefore(free(item), first);
+    }
+
+    public void add(E item, int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+        linkBefore(free(item), index == len ? null : node(index));
+    }
+
+    public void addLast(E item) {
+        linkBefore(free(item), null);
+    }
+
+    /**
+     * Inserts item right after pos in O(1).
+     * @param pos An item of the List.
+     * @param item The item to be inserted.
+     * @throws IllegalArgumentException If pos is not in the List or item is in a List.
+     */
+    public void insertAfter(E pos, E item) throws IllegalArgumentException {
+        linkBefore(free(item), owned(pos).next);
+    }
+
+    /**
+     * Inserts item right before pos in O(1).
+     * @param pos An item of the List.
+     * @param item The item to be inserted.
+     * @throws IllegalArgumentException If pos is not in the List or item is in a List.
+     */
+    public void insertBefore(E pos, E item) throws IllegalArgumentException {
+        linkBefore(free(item), owned(pos));
+    }
+
+    /**
+     * Removes item from the List in O(1).
+     * @param item An item of the List.
+     * @throws IllegalArgumentException If item is not in the List.
+     */
+    public void unlink(E item) throws IllegalArgumentException {
+        unlinkItem(owned(item));
+    }
+
+    /**
+     * Moves item to the first position of the List in O(1).
+     * @param item An item of the List.
+     * @throws IllegalArgumentException If item is not in the List.
+     */
+    public void moveToFront(E item) throws IllegalArgumentException {
+        if (owned(item) != first)
+            linkBefore(unlinkItem(item), first);
+    }
+
+    /**
+     * Moves item to the last position of the List in O(1).
+     * @param item An item of the List.
+     * @throws IllegalArgumentException If item is not in the List.
+     */
+    public void moveToBack(E item) throws IllegalArgumentException {
+        if (owned(item) != last)
+            linkBefore(unlinkItem(item), null);
+    }
+
+    /**
+     * @param item An item of the List.
+     * @return The item right after item, or {@code null} if it is the last one.
+     * @throws IllegalArgumentException If item is not in the List.
+     */
+    public E next(E item) throws IllegalArgumentException {
+        return owned(item).next;
+    }
+
+    /**
+     * @param item An item of the List.
+     * @return The item right before item, or {@code null} if it is the first one.
+     * @throws IllegalArgumentException If item is not in the List.
+     */
+    public E previous(E item) throws IllegalArgumentException {
+        return owned(item).prev;
+    }
+
+    public E removeFirst() throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        return unlinkItem(first);
+    }
+
+    public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+        verifyElementIndex(index);
+        return unlinkItem(node(index));
+    }
+
+    public E removeLast() throws NoSuchElementException {
+        if (last == null)
+            throw new NoSuchElementException();
+        return unlinkItem(last);
+    }
+
+    public E getFirst() throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        return first;
+    }
+
+    public E get(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return node(index);
+    }
+
+    public E getLast() throws NoSuchElementException {
+        if (last == null)
+            throw new NoSuchElementException();
+        return last;
+    }
+
+    public E setFirst(E item) throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        return replace(first, item);
+    }
+
+    public E set(E item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return replace(node(index), item);
+    }
+
+    public E setLast(E item) throws NoSuchElementException {
+        if (last == null)
+            throw new NoSuchElementException();
+        return replace(last, item);
+    }
+
+    public int size() {
+        return len;
+    }
+
+    /**
+     * Checks in O(1) whether o itself is an item of the List.
+     */
+    public boolean contains(Object o) {
+        return o instanceof Linkable<?> l && l.list == this;
+    }
+
+    /**
+     * Removes o in O(1) if it is itself an item of the List.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object o) {
+        if (!contains(o))
+            return false;
+        unlinkItem((E) o);
+        return true;
+    }
+
+    public boolean removeIf(@NotNull Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean mod = false;
+        for (E e = first; e != null; ) {
+            final E next = e.next;
+            if (filter.test(e)) {
+                unlinkItem(e);
+                mod = true;
+            }
+            e = next;
+        }
+        return mod;
+    }
+
+    /**
+     * Sorts the List with a bottom-up merge sort that relinks the items, in O(n log n) time and O(1) extra memory.
+     * Sorted runs of 2<sup>i</sup> items are kept in slot i of a fixed array and merged as soon as two of the same
+     * length exist, so the items being merged were touched recently.
+     */
+    public void sort(Comparator<? super E> c) {
+        final Comparator<? super E> cmp = comparatorOf(c);
+        @SuppressWarnings("unchecked")
+        final E[] runs = (E[]) new Linkable<?>[32];
+        E rest = first;
+        E sorted = null;
+        boolean done = false;
+        try {
+            while (rest != null) {
+                E run = rest;
+                rest = rest.next;
+                run.next = null;
+                int i = 0;
+                for (; runs[i] != null; i++)
+                    run = mergeRuns(runs, i, run, cmp);
+                runs[i] = run;
+            }
+            for (int i = 0; i < runs.length; i++)
+                if (runs[i] != null) {
+                    if (sorted == null) {
+                        sorted = runs[i];
+                        runs[i] = null;
+                    } else
+                        sorted = mergeRuns(runs, i, sorted, cmp);
+                }
+            done = true;
+        } finally {
+            if (!done) {
+                // cmp threw: chain the runs and the items not taken yet back together, in whatever order
+                sorted = rest;
+                for (E run : runs)
+                    if (run != null) {
+                        E end = run;
+                        while (end.next != null)
+                            end = end.next;
+                        end.next = sorted;
+                        sorted = run;
+                    }
+            }
+            first = sorted;
+            E prev = null;
+            for (E e = first; e != null; e = e.next) {
+                e.prev = prev;
+                prev = e;
+            }
+            last = prev;
+        }
+    }
+
+    public void clear() {
+        for (E e = first; e != null; ) {
+            final E next = e.next;
+            e.prev = e.next = null;
+            e.list = null;
+            e = next;
+        }
+        first = last = null;
+        len = 0;
+    }
+
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (E e = first; e != null; e = e.next)
+            action.accept(e);
+    }
+
+    public Object[] toArray() {
+        final Object[] arr = new Object[len];
+        int i = 0;
+        for (E e = first; e != null; e = e.next)
+            arr[i++] = e;
+        return arr;
+    }
+
+    public ListIterator<E> iterator() {
+        return new IntrusiveLinkedListIterator(0, 0);
+    }
+
+    public ListIterator<E> iterator(int start) {
+        verifyPositionIndex(start);
+        return new IntrusiveLinkedListIterator(start, 0);
+    }
+
+    public ListIterator<E> iterator(int start, int stop) {
+        verifyPositionIndex(start);
+        if (start > stop)
+            throw new InvalidParameterException(start + " is greater than " + stop);
+        return new IntrusiveLinkedListIterator(start, len - stop);
+    }
+
+    private class IntrusiveLinkedListIterator implements ListIterator<E> {
+        private E next;
+        private E lastRet = null;
+        private int nextI;
+        private int lastRetI;
+        private final int stopDist;
+
+        IntrusiveLinkedListIterator(int i, int stopDist) {
+            lastRetI = nextI = i;
+            this.stopDist = stopDist;
+            next = i == len ? null : node(i);
+        }
+
+        public boolean hasNext() {
+            return nextI != len - stopDist;
+        }
+
+        public boolean hasPrevious() {
+            return nextI != 0;
+        }
+
+        public E next() throws NoSuchElementException {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            lastRet = next;
+            next = next.next;
+            lastRetI = nextI;
+            nextI++;
+            return lastRet;
+        }
+
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            lastRet = next = next != null ? next.prev : last;
+            lastRetI = --nextI;
+            return lastRet;
+        }
+
+        public void remove() throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            if (lastRet != next)
+                nextI--;
+            else
+                next = lastRet.next;
+            unlinkItem(lastRet);
+            lastRet = null;
+        }
+
+        public void add(E item) throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            linkBefore(free(item), next);
+            nextI++;
+            lastRet = null;
+        }
+
+        public int index() {
+            return lastRetI;
+        }
+
+        public int nextIndex() {
+            return nextI;
+        }
+
+        public int prevIndex() {
+            return nextI - 1;
+        }
+
+        public E get() throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            return lastRet;
+        }
+
+        public E set(E item) throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            if (next == lastRet)
+                next = item;
+            final E old = replace(lastRet, item);
+            lastRet = item;
+            return old;
+        }
+    }
+
+    /**
+     * Checks that item can be linked, that is, it is not null and it is not in any List.
+     */
+    private E free(E item) {
+        Objects.requireNonNull(item);
+        if (item.list != null)
+            throw new IllegalArgumentException("The item is already in a List");
+        return item;
+    }
+
+    /**
+     * Checks that item is in this List.
+     */
+    private E owned(E item) {
+        Objects.requireNonNull(item);
+        if (item.list != this)
+            throw new IllegalArgumentException("The item is not in this List");
+        return item;
+    }
+
+    /**
+     * Finds the item at index walking from whichever end of the List is closer to it.
+     */
+    private E node(int index) {
+        // assert isElementIndex(index);
+        E e;
+        if (index < len >> 1) {
+            e = first;
+            for (int i = 0; i < index; i++)
+                e = e.next;
+            NodeHops.add(index);
+        } else {
+            e = last;
+            for (int i = len - 1; i > index; i--)
+                e = e.prev;
+            NodeHops.add(len - 1 - index);
+        }
+        return e;
+    }
+
+    /**
+     * Merges the run in runs[i] with a run of items that come after it, emptying the slot, and returns the merged run.
+     * Ties take from runs[i] first, which keeps the sort stable. If cmp throws, every item of both runs is left
+     * chained in runs[i].
+     */
+    private static <E extends Linkable<E>> E mergeRuns(E[] runs, int i, E later, Comparator<? super E> cmp) {
+        E a = runs[i];
+        E b = later;
+        E head = null;
+        E tail = null;
+        try {
+            while (a != null && b != null) {
+                final E n;
+                if (cmp.compare(b, a) < 0) {
+                    n = b;
+                    b = b.next;
+                } else {
+                    n = a;
+                    a = a.next;
+                }
+                if (tail == null)
+                    head = n;
+                else
+                    tail.next = n;
+                tail = n;
+            }
+        } finally {
+            E rest = b;
+            if (a != null) {
+                rest = a;
+                while (a.next != null)
+                    a = a.next;
+                a.next = b;
+            }
+            if (tail == null)
+                head = rest;
+            else
+                tail.next = rest;
+            runs[i] = head;
+        }
+        runs[i] = null;
+        return head;
+    }
+
+    /**
+     * Links item before next, or at the end of the List if next is null.
+     */
+    private void linkBefore(E item, E next) {
+        final E prev = next != null ? next.prev : last;
+        item.prev = prev;
+        item.next = next;
+        item.list = this;
+        if (prev != null)
+            prev.next = item;
+        else
+            first = item;
+        if (next != null)
+            next.prev = item;
+        else
+            last = item;
+        len++;
+    }
+
+    /**
+     * Unlinks item, clearing its links, and returns it.
+     */
+    private E unlinkItem(E item) {
+        // assert item.list == this
+        final E prev = item.prev;
+        final E next = item.next;
+        if (prev != null)
+            prev.next = next;
+        else
+            first = next;
+        if (next != null)
+            next.prev = prev;
+        else
+            last = prev;
+        item.prev = item.next = null;
+        item.list = null;
+        len--;
+        return item;
+    }
+
+    /**
+     * Puts item in the place of old, which leaves the List, and returns old.
+     */
+    private E replace(E old, E item) {
+        if (item != old) {
+            free(item);
+            final E next = old.next;
+            unlinkItem(old);
+            linkBefore(item, next);
+        }
+        return old;
+    }
+}
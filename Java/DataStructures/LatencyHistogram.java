@@ -0,0 +1,142 @@
+package DataStructures;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A distribution of latencies in nanoseconds with a fixed relative precision, in the style of HdrHistogram.
+ * <p>
+ * Values below 64 get a bucket each. Above that, every power of two is split into 32 buckets of the same width, so a
+ * value is reported with an error of at most 1/32 of itself, about 3%, whatever its magnitude. Values are kept up to
+ * 2<sup>40</sup> ns, about 18 minutes, larger ones are counted as that. Recording is a few atomic increments, takes
+ * no lock, and can be done from several threads at once; the queries made meanwhile are approximate.
+ * </p>
+ * @author Eduardo Costa de Souza
+ * @see MeteredList
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final long MAX_VALUE = (1L << 40) - 1;
+    private static final int BUCKETS = index(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public LatencyHistogram() {
+    }
+
+    /**
+     * Records a latency.
+     * @param nanos The latency in nanoseconds, negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        final long v = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts.incrementAndGet(index(v));
+        total.incrementAndGet();
+        sum.addAndGet(v);
+        long m = max.get();
+        while (v > m && !max.compareAndSet(m, v))
+            m = max.get();
+    }
+
+    /**
+     * @return The number of latencies recorded.
+     */
+    public long count() {
+        return total.get();
+    }
+
+    /**
+     * @return The mean of the latencies recorded, or 0 if there is none.
+     */
+    public double mean() {
+        final long n = total.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * @return The largest latency recorded, or 0 if there is none.
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Finds the latency that percentile percent of the latencies recorded do not exceed.
+     * @param percentile A number from 0 to 100, 50 being the median.
+     * @return The highest value of the bucket holding that latency, never above {@link #max()}, or 0 if nothing was
+     * recorded.
+     * @throws IllegalArgumentException If percentile is not between 0 and 100.
+     */
+    public long percentile(double percentile) throws IllegalArgumentException {
+        if (!(percentile >= 0 && percentile <= 100))
+            throw new IllegalArgumentException("Illegal percentile: " + percentile);
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            n += counts.get(i);
+        if (n == 0)
+            return 0;
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n));
+        long seen = 0;
+        int i = 0;
+        for (; i < BUCKETS - 1; i++) {
+            seen += counts.get(i);
+            if (seen >= rank)
+                break;
+        }
+        return Math.min(highestValue(i), max.get());
+    }
+
+    /**
+     * Forgets every latency recorded.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++)
+            counts.set(i, 0);
+        total.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    /**
+     * @return A new LatencyHistogram holding the latencies recorded so far, unaffected by later ones.
+     */
+    public LatencyHistogram copy() {
+        final LatencyHistogram h = new LatencyHistogram();
+        for (int i = 0; i < BUCKETS; i++)
+            h.counts.set(i, counts.get(i));
+        h.total.set(total.get());
+        h.sum.set(sum.get());
+        h.max.set(max.get());
+        return h;
+    }
+
+    public String toString() {
+        return "LatencyHistogram[count=" + count() + ", mean=" + Math.round(mean()) + "ns, p50=" + percentile(50)
+                + "ns, p99=" + percentile(99) + "ns, max=" + max() + "ns]";
+    }
+
+    /**
+     * The bucket of a value from 0 to {@link #MAX_VALUE}.
+     */
+    private static int index(long v) {
+        if (v < SUB_COUNT << 1)
+            return (int) v;
+        final int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) (v >>> shift) - SUB_COUNT;
+    }
+
+    /**
+     * The highest value falling in bucket i.
+     */
+    private static long highestValue(int i) {
+        if (i < SUB_COUNT << 1)
+            return i;
+        final int shift = (i >>> SUB_BITS) - 1;
+        final long low = (long) ((i & (SUB_COUNT - 1)) + SUB_COUNT) << shift;
+        return low + (1L << shift) - 1;
+    }
+}
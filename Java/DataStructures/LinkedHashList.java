@@ -0,0 +1,575 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An implementation of a {@link List} using double chain Nodes and a hash index from each distinct item to the Nodes
+ * holding it.
+ * <p>
+ * The index keeps, for each distinct item, how many times it is in the List and its Nodes in List order, so
+ * {@link #contains(Object)}, {@link #remove(Object)} and {@link #containsAll(Collection)} run in O(1) per item
+ * instead of scanning the List. Each Node also carries an order stamp, a number that grows along the List, which
+ * keeps the Nodes of an item sorted when one is linked in the middle. Linking a Node before or after every other
+ * Node holding its item costs O(1), linking it between them walks the Nodes of its item from the closer end, so it
+ * costs O(k) at worst for an item held k times, which also holds for {@code set}. {@link #indexOf(Object)} and
+ * {@link #lastIndexOf(Object)} read positions cached in the Nodes, which a structural change anywhere but at the end
+ * makes stale and the next call renumbers in O(n), so a batch of lookups between changes costs O(1) each. Reads
+ * running at once share that renumbering, but like every read they must not overlap with a write.
+ * </p>
+ * <p>
+ * Items may be {@code null}. Like the keys of a {@link HashMap}, items must not change their {@code hashCode} while
+ * in the List. Each Node costs more than one of {@link DoublyLinkedList}, plus its entry in the index.
+ * </p>
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see List
+ * @see ListIterator
+ * @see DoublyLinkedList
+ */
+public class LinkedHashList<E> extends AbstractLinkedList<E> implements List<E> {
+    /**
+     * The distance between the order stamps of Nodes linked at the ends, and between all of them after a
+     * renumbering.
+     */
+    private static final long STAMP_GAP = 1L << 20;
+
+    private Node<E> first;
+    private Node<E> last;
+    private int len;
+    private final HashMap<Object, Bucket<E>> buckets;
+    /**
+     * Whether the {@link Node#index} of every Node is its position. Volatile, with {@link #renumber()} locked on
+     * {@link #buckets}, so that concurrent reads can share a renumbering.
+     */
+    private volatile boolean indexed;
+
+    public LinkedHashList() {
+        len = 0;
+        first = null;
+        last = null;
+        buckets = new HashMap<>();
+        indexed = true;
+    }
+
+    public LinkedHashList(@NotNull Collection<? extends E> initList) {
+        this();
+        for (E item : initList)
+            addLast(item);
+    }
+
+    @SafeVarargs
+    public LinkedHashList(E ... initList) {
+        this(Arrays.asList(initList));
+    }
+
+    public void addFirst(E item) {
+        linkBefore(item, first);
+    }
+
+    public void add(E item, int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+        linkBefore(item, index == len ? null : node(index));
+    }
+
+    public void addLast(E item) {
+        linkBefore(item, null);
+    }
+
+    public E removeFirst() throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        return unlink(first);
+    }
+
+    public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+        verifyElementIndex(index);
+        return unlink(node(index));
+    }
+
+    public E removeLast() throws NoSuchElementException {
+        if (last == null)
+            throw new NoSuchElementException();
+        return unlink(last);
+    }
+
+    public E getFirst() throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        return first.item;
+    }
+
+    public E get(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return node(index).item;
+    }
+
+    public E getLast() throws NoSuchElementException {
+        if (last == null)
+            throw new NoSuchElementException();
+        return last.item;
+    }
+
+    public E setFirst(E item) throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        return setNode(item, first);
+    }
+
+    public E set(E item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return setNode(item, node(index));
+    }
+
+    public E setLast(E item) throws NoSuchElementException {
+        if (last == null)
+            throw new NoSuchElementException();
+        return setNode(item, last);
+    }
+
+    public int size() {
+        return len;
+    }
+
+    /**
+     * {@link #indexOf(Object)} and {@link #lastIndexOf(Object)} may renumber the Nodes.
+     */
+    boolean cachesReads() {
+        return true;
+    }
+
+    /**
+     * Looks o up in the index in O(1).
+     */
+    public boolean contains(Object o) {
+        return buckets.containsKey(o);
+    }
+
+    /**
+     * Looks o up in the index in O(1) per item of c.
+     */
+    public boolean containsAll(@NotNull Collection<?> c) {
+        for (Object o : c)
+            if (!buckets.containsKey(o))
+                return false;
+        return true;
+    }
+
+    /**
+     * @param o The item to be counted, which may be {@code null}.
+     * @return How many items of the List are equal to o, found in O(1).
+     */
+    public int count(Object o) {
+        final Bucket<E> b = buckets.get(o);
+        return b == null ? 0 : b.count;
+    }
+
+    /**
+     * Finds the first Node holding o in the index, and its position in O(1) if no structural change was made since
+     * the last call, or in O(n) otherwise.
+     */
+    public int indexOf(Object o) {
+        final Bucket<E> b = buckets.get(o);
+        if (b == null)
+            return -1;
+        renumber();
+        return b.first.index;
+    }
+
+    /**
+     * @see #indexOf(Object)
+     */
+    public int lastIndexOf(Object o) {
+        final Bucket<E> b = buckets.get(o);
+        if (b == null)
+            return -1;
+        renumber();
+        return b.last.index;
+    }
+
+    /**
+     * Unlinks the first Node holding o, found in the index in O(1).
+     */
+    public boolean remove(Object o) {
+        final Bucket<E> b = buckets.get(o);
+        if (b == null)
+            return false;
+        unlink(b.first);
+        return true;
+    }
+
+    public boolean removeIf(@NotNull Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean mod = false;
+        for (Node<E> n = first; n != null; ) {
+            final Node<E> next = n.next;
+            if (filter.test(n.item)) {
+                unlink(n);
+                mod = true;
+            }
+            n = next;
+        }
+        return mod;
+    }
+
+    /**
+     * Sorts a copy of the items in an array, writes them back into the Nodes in order and rebuilds the index, so each
+     * bucket is built by appending.
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c) {
+        final Object[] arr = toArray();
+        Arrays.sort(arr, (Comparator<Object>) c);
+        buckets.clear();
+        int i = 0;
+        for (Node<E> n = first; n != null; n = n.next) {
+            n.item = (E) arr[i++];
+            n.samePrev = n.sameNext = null;
+            addToBucket(n);
+        }
+    }
+
+    public void clear() {
+        for (Node<E> n = first; n != null; ) {
+            final Node<E> next = n.next;
+            n.item = null;
+            n.prev = n.next = n.samePrev = n.sameNext = null;
+            n = next;
+        }
+        first = last = null;
+        len = 0;
+        buckets.clear();
+        indexed = true;
+    }
+
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Node<E> n = first; n != null; n = n.next)
+            action.accept(n.item);
+    }
+
+    public Object[] toArray() {
+        final Object[] arr = new Object[len];
+        int i = 0;
+        for (Node<E> n = first; n != null; n = n.next)
+            arr[i++] = n.item;
+        return arr;
+    }
+
+    public LinkedHashList<E> copyOfRange(int first, int last) throws IllegalArgumentException {
+        return (LinkedHashList<E>) subListOfList(first, last, new LinkedHashList<>());
+    }
+
+    public ListIterator<E> iterator() {
+        return new LinkedHashListIterator(0, 0);
+    }
+
+    public ListIterator<E> iterator(int start) {
+        verifyPositionIndex(start);
+        return new LinkedHashListIterator(start, 0);
+    }
+
+    public ListIterator<E> iterator(int start, int stop) {
+        verifyPositionIndex(start);
+        if (start > stop)
+            throw new InvalidParameterException(start + " is greater than " + stop);
+        return new LinkedHashListIterator(start, len - stop);
+    }
+
+    private class LinkedHashListIterator implements ListIterator<E> {
+        private Node<E> next;
+        private Node<E> lastRet = null;
+        private int nextI;
+        private int lastRetI;
+        private final int stopDist;
+
+        LinkedHashListIterator(int i, int stopDist) {
+            lastRetI = nextI = i;
+            this.stopDist = stopDist;
+            next = i == len ? null : node(i);
+        }
+
+        public boolean hasNext() {
+            return nextI != len - stopDist;
+        }
+
+        public boolean hasPrevious() {
+            return nextI != 0;
+        }
+
+        public E next() throws NoSuchElementException {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            lastRet = next;
+            next = next.next;
+            lastRetI = nextI;
+            nextI++;
+            return lastRet.item;
+        }
+
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            lastRet = next = next != null ? next.prev : last;
+            lastRetI = --nextI;
+            return lastRet.item;
+        }
+
+        public void remove() throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            if (lastRet != next)
+                nextI--;
+            else
+                next = lastRet.next;
+            unlink(lastRet);
+            lastRet = null;
+        }
+
+        public void add(E item) throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            linkBefore(item, next);
+            nextI++;
+            lastRet = null;
+        }
+
+        public int index() {
+            return lastRetI;
+        }
+
+        public int nextIndex() {
+            return nextI;
+        }
+
+        public int prevIndex() {
+            return nextI - 1;
+        }
+
+        public E get() throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            return lastRet.item;
+        }
+
+        public E set(E item) throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            return setNode(item, lastRet);
+        }
+    }
+
+    private static class Node<E> {
+        E item;
+        Node<E> prev, next;
+        /**
+         * The Nodes before and after this one holding an equal item.
+         */
+        Node<E> samePrev, sameNext;
+        long stamp;
+        int index;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * The Nodes holding equal items, chained in List order through {@link Node#sameNext}.
+     */
+    private static class Bucket<E> {
+        Node<E> first, last;
+        int count;
+    }
+
+    /**
+     * Finds the Node at index walking from whichever end of the List is closer to it.
+     */
+    private Node<E> node(int index) {
+        // assert isElementIndex(index);
+        Node<E> n;
+        if (index < len >> 1) {
+            n = first;
+            for (int i = 0; i < index; i++)
+                n = n.next;
+            NodeHops.add(index);
+        } else {
+            n = last;
+            for (int i = len - 1; i > index; i--)
+                n = n.prev;
+            NodeHops.add(len - 1 - index);
+        }
+        return n;
+    }
+
+    /**
+     * Links a new Node holding item before next, or at the end of the List if next is null.
+     */
+    private void linkBefore(E item, Node<E> next) {
+        final Node<E> n = new Node<>(item);
+        final Node<E> prev = next != null ? next.prev : last;
+        n.prev = prev;
+        n.next = next;
+        if (prev != null)
+            prev.next = n;
+        else
+            first = n;
+        if (next != null)
+            next.prev = n;
+        else
+            last = n;
+        // appending keeps every cached position right
+        if (next == null)
+            n.index = len;
+        else
+            indexed = false;
+        len++;
+        stamp(n);
+        addToBucket(n);
+    }
+
+    /**
+     * Unlinks node from the List and the index, and returns its item.
+     */
+    private E unlink(Node<E> node) {
+        removeFromBucket(node);
+        final Node<E> prev = node.prev;
+        final Node<E> next = node.next;
+        if (prev != null)
+            prev.next = next;
+        else
+            first = next;
+        if (next != null) {
+            next.prev = prev;
+            indexed = false;
+        } else
+            last = prev;
+        len--;
+
+        final E remE = node.item;
+        node.item = null;
+        node.prev = node.next = null;
+        return remE;
+    }
+
+    /**
+     * Sets the item of node, moving it to the bucket of the new item.
+     */
+    private E setNode(E item, Node<E> node) {
+        final E oldItem = node.item;
+        if (node.item != item) {
+            removeFromBucket(node);
+            node.item = item;
+            addToBucket(node);
+        }
+        return oldItem;
+    }
+
+    /**
+     * Gives the just linked n a stamp between those of its neighbours, renumbering every stamp if there is no room
+     * left.
+     */
+    private void stamp(Node<E> n) {
+        final Node<E> prev = n.prev;
+        final Node<E> next = n.next;
+        if (prev == null && next == null)
+            n.stamp = 0;
+        else if (next == null && prev.stamp <= Long.MAX_VALUE - STAMP_GAP)
+            n.stamp = prev.stamp + STAMP_GAP;
+        else if (prev == null && next.stamp >= Long.MIN_VALUE + STAMP_GAP)
+            n.stamp = next.stamp - STAMP_GAP;
+        else if (prev != null && next != null
+                && (n.stamp = (prev.stamp >> 1) + (next.stamp >> 1) + (prev.stamp & next.stamp & 1)) != prev.stamp)
+            return;
+        else
+            restamp();
+    }
+
+    /**
+     * Spreads the stamps of all Nodes {@link #STAMP_GAP} apart, which keeps their order.
+     */
+    private void restamp() {
+        long s = 0;
+        for (Node<E> n = first; n != null; n = n.next, s += STAMP_GAP)
+            n.stamp = s;
+    }
+
+    /**
+     * Sets the cached position of every Node, unless they are already right. Concurrent reads wait for a single one
+     * of them to renumber, and then see every position it set.
+     */
+    private void renumber() {
+        if (indexed)
+            return;
+        synchronized (buckets) {
+            if (indexed)
+                return;
+            int i = 0;
+            for (Node<E> n = first; n != null; n = n.next)
+                n.index = i++;
+            indexed = true;
+        }
+    }
+
+    /**
+     * Adds the linked n to the bucket of its item, after the Nodes of the bucket that come before it. That is O(1) at
+     * either end of the bucket and O(k) at worst in between, for k Nodes in the bucket.
+     */
+    private void addToBucket(Node<E> n) {
+        final Bucket<E> b = buckets.computeIfAbsent(n.item, k -> new Bucket<>());
+        b.count++;
+        final Node<E> before;
+        if (b.first == null || b.first.stamp > n.stamp)
+            before = null;
+        else {
+            // walk in from both ends of the bucket at once, so a Node costs the distance to the closer one
+            Node<E> front = b.first;
+            Node<E> back = b.last;
+            while (back.stamp > n.stamp && front.sameNext != null && front.sameNext.stamp < n.stamp) {
+                front = front.sameNext;
+                back = back.samePrev;
+            }
+            before = back.stamp < n.stamp ? back : front;
+        }
+        n.samePrev = before;
+        n.sameNext = before != null ? before.sameNext : b.first;
+        if (n.samePrev != null)
+            n.samePrev.sameNext = n;
+        else
+            b.first = n;
+        if (n.sameNext != null)
+            n.sameNext.samePrev = n;
+        else
+            b.last = n;
+    }
+
+    /**
+     * Removes n from the bucket of its item, and the bucket from the index if n was its last Node.
+     */
+    private void removeFromBucket(Node<E> n) {
+        final Bucket<E> b = buckets.get(n.item);
+        if (--b.count == 0) {
+            buckets.remove(n.item);
+            n.samePrev = n.sameNext = null;
+            return;
+        }
+        if (n.samePrev != null)
+            n.samePrev.sameNext = n.sameNext;
+        else
+            b.first = n.sameNext;
+        if (n.sameNext != null)
+            n.sameNext.samePrev = n.samePrev;
+        else
+            b.last = n.samePrev;
+        n.samePrev = n.sameNext = null;
+    }
+}
@@ -3,7 +3,12 @@ package DataStructures;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
 
 /**
  * An implementation of a {@link List} using single chain Nodes.
@@ -16,11 +21,35 @@ public class LinkedList<E> extends AbstractLinkedList<E> implements List<E> {
     private Node<E> first;
     private Node<E> last;
     private int len;
+    /**
+     * The number of structural changes made to the List.
+     */
+    private int modCount;
+
+    /**
+     * The recycling policy of the List, null if unlinked nodes are left to the garbage collector, and the chain of
+     * recycled nodes, linked through {@code next}.
+     */
+    private final NodePool pool;
+    private Node<E> free;
+    private int freeCount;
 
     public LinkedList() {
         len = 0;
         first = null;
         last = null;
+        pool = null;
+    }
+
+    /**
+     * Creates an empty List that recycles its unlinked nodes as set by pool.
+     * @param pool The recycling policy.
+     */
+    public LinkedList(@NotNull NodePool pool) {
+        len = 0;
+        first = null;
+        last = null;
+        this.pool = Objects.requireNonNull(pool);
     }
 
     public LinkedList(@NotNull Iterable<? extends E> initList) {
@@ -35,11 +64,12 @@ public class LinkedList<E> extends AbstractLinkedList<E> implements List<E> {
     }
 
     public void addFirst(E item) {
-        Node<E> newNode = new Node<>(item, first);
+        Node<E> newNode = newNode(item, first);
         if (first != null)
             first = newNode;
         else
             first = last = newNode;
+        modCount++;
         len++;
     }
 
@@ -49,17 +79,19 @@ public class LinkedList<E> extends AbstractLinkedList<E> implements List<E> {
         verifyPositionIndex(index);
 
         Node<E> beforeNode = node(index - 1);
-        beforeNode.next = new Node<>(item, beforeNode.next);
+        beforeNode.next = newNode(item, beforeNode.next);
+        modCount++;
         len++;
     }
 
     public void addLast(E item) {
-        Node<E> newNode = new Node<>(item);
+        Node<E> newNode = newNode(item, null);
         if (last != null)
             last.next = newNode;
         else
             first = newNode;
         last = newNode;
+        modCount++;
         len++;
     }
 
@@ -71,6 +103,7 @@ public class LinkedList<E> extends AbstractLinkedList<E> implements List<E> {
         E retVal = first.item;
         unlinkNode(first);
         first = f;
+        modCount++;
         len--;
         if (f == null || len == 1)
             last = first;
@@ -89,6 +122,7 @@ public class LinkedList<E> extends AbstractLinkedList<E> implements List<E> {
         E retVal = remvNode.item;
         before.next = remvNode.next;
         unlinkNode(remvNode);
+        modCount++;
         len--;
 
         return retVal;
@@ -101,6 +135,7 @@ public class LinkedList<E> extends AbstractLinkedList<E> implements List<E> {
             throw new NoSuchElementException();
 
         Node<E> newLast = node(--len - 1);
+        modCount++;
         E retVal = last.item;
         newLast.next = null;
         unlinkNode(last);
@@ -149,7 +184,171 @@ public class LinkedList<E> extends AbstractLinkedList<E> implements List<E> {
         return len;
     }
 
-    public LinkedList<E> subList(int first, int last) throws IllegalArgumentException {
+    /**
+     * Moves every item of other to the end of this List in O(1), relinking its nodes instead of copying them. other
+     * is left empty.
+     * @param other The List whose items will be moved.
+     * @throws IllegalArgumentException If other is this List.
+     */
+    public void appendAll(@NotNull LinkedList<E> other) throws IllegalArgumentException {
+        splice(len, other);
+    }
+
+    /**
+     * Moves every item of other into this List, the first of them ending up at index, relinking the nodes of other
+     * instead of copying them. It runs in the time needed to reach the node before index, so O(1) at either end.
+     * other is left empty.
+     * @param index The index at which the first item of other will be.
+     * @param other The List whose items will be moved.
+     * @throws IndexOutOfBoundsException If the index is inaccessible.
+     * @throws IllegalArgumentException If other is this List.
+     */
+    public void splice(int index, @NotNull LinkedList<E> other)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        verifyPositionIndex(index);
+        if (other == this)
+            throw new IllegalArgumentException("A List can not be spliced into itself");
+        if (other.len == 0)
+            return;
+        final Node<E> prev = index == 0 ? null : index == len ? last : node(index - 1);
+        other.last.next = prev == null ? first : prev.next;
+        if (prev == null)
+            first = other.first;
+        else
+            prev.next = other.first;
+        if (prev == last)
+            last = other.last;
+        len += other.len;
+        modCount++;
+        other.first = other.last = null;
+        other.len = 0;
+        other.modCount++;
+    }
+
+    /**
+     * Splits the List at index in the time needed to reach the node before it: the items from index on are moved,
+     * with their nodes, to a new List, and this List keeps the items before index.
+     * @param index The index of the first item to be moved.
+     * @return The new List, with the same node recycling policy as this one.
+     * @throws IndexOutOfBoundsException If the index is inaccessible.
+     */
+    public LinkedList<E> splitAt(int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+        final LinkedList<E> tail = pool == null ? new LinkedList<>() : new LinkedList<>(pool);
+        if (index == len)
+            return tail;
+        final Node<E> prev = index == 0 ? null : node(index - 1);
+        tail.first = prev == null ? first : prev.next;
+        tail.last = last;
+        tail.len = len - index;
+        if (prev == null)
+            first = null;
+        else
+            prev.next = null;
+        last = prev;
+        len = index;
+        modCount++;
+        return tail;
+    }
+
+    public boolean removeIf(@NotNull Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean mod = false;
+        Node<E> prev = null;
+        for (Node<E> n = first; n != null; ) {
+            final Node<E> next = n.next;
+            if (filter.test(n.item)) {
+                if (prev == null)
+                    first = next;
+                else
+                    prev.next = next;
+                if (n == last)
+                    last = prev;
+                unlinkNode(n);
+                modCount++;
+                len--;
+                mod = true;
+            } else
+                prev = n;
+            n = next;
+        }
+        return mod;
+    }
+
+    /**
+     * Sorts the List with a bottom-up merge sort that relinks the Nodes instead of moving the items, in O(n log n) time
+     * and O(1) extra memory. Sorted runs of 2<sup>i</sup> Nodes are kept in slot i of a fixed array and merged as soon
+     * as two of the same length exist, so the Nodes being merged were touched recently.
+     */
+    public void sort(Comparator<? super E> c) {
+        final Comparator<? super E> cmp = comparatorOf(c);
+        @SuppressWarnings("unchecked")
+        final Node<E>[] runs = (Node<E>[]) new Node<?>[32];
+        Node<E> rest = first;
+        Node<E> sorted = null;
+        boolean done = false;
+        modCount++;
+        try {
+            while (rest != null) {
+                Node<E> run = rest;
+                rest = rest.next;
+                run.next = null;
+                int i = 0;
+                for (; runs[i] != null; i++)
+                    run = mergeRuns(runs, i, run, cmp);
+                runs[i] = run;
+            }
+            for (int i = 0; i < runs.length; i++)
+                if (runs[i] != null) {
+                    if (sorted == null) {
+                        sorted = runs[i];
+                        runs[i] = null;
+                    } else
+                        sorted = mergeRuns(runs, i, sorted, cmp);
+                }
+            done = true;
+        } finally {
+            if (!done) {
+                // cmp threw: chain the runs and the Nodes not taken yet back together, in whatever order
+                sorted = rest;
+                for (Node<E> run : runs)
+                    if (run != null) {
+                        Node<E> end = run;
+                        while (end.next != null)
+                            end = end.next;
+                        end.next = sorted;
+                        sorted = run;
+                    }
+            }
+            first = sorted;
+            Node<E> n = first;
+            if (n != null)
+                while (n.next != null)
+                    n = n.next;
+            last = n;
+        }
+    }
+
+    /**
+     * Returns a view of the items from {@code first} to {@code last} backed by the nodes of the List. Creating it
+     * walks once to the node right before the range, and positional operations on it walk from there. Structural
+     * changes made to the List other than through the view make the view throw a
+     * {@link ConcurrentModificationException}.
+     * @param first The first position.
+     * @param last The last position.
+     * @return The view.
+     * @throws IllegalArgumentException If the {@code first} or {@code last} is out of range or if {@code first} is
+     * greater than {@code last}.
+     */
+    public List<E> subList(int first, int last) throws IllegalArgumentException {
+        verifyRange(first, last);
+        final ListEvents.BulkOp event = ListEvents.beginBulkOp();
+        final List<E> view = new SubList(null, first == 0 ? null : node(first - 1), last - first);
+        ListEvents.endBulkOp(event, "subList", this, len, last - first);
+        return view;
+    }
+
+    public LinkedList<E> copyOfRange(int first, int last) throws IllegalArgumentException {
         return (LinkedList<E>) subListOfList(first, last, new LinkedList<>());
     }
 
@@ -159,14 +358,47 @@ public class LinkedList<E> extends AbstractLinkedList<E> implements List<E> {
 
     public ListIterator<E> iterator(int start) {
         verifyPositionIndex(start);
-        return new IterateLinkedList(start);
+        final ListEvents.IteratorCreated event = ListEvents.beginIterator();
+        final ListIterator<E> it = new IterateLinkedList(start);
+        ListEvents.endIterator(event, this, start, len);
+        return it;
     }
 
     public ListIterator<E> iterator(int start, int stop) {
         verifyPositionIndex(start);
         if (start > stop)
             throw new IllegalArgumentException(start + " is greater than" + stop);
-        return new IterateLinkedList(start, len - stop);
+        final ListEvents.IteratorCreated event = ListEvents.beginIterator();
+        final ListIterator<E> it = new IterateLinkedList(start, len - stop);
+        ListEvents.endIterator(event, this, start, stop);
+        return it;
+    }
+
+    /**
+     * Creates a late-binding {@link Spliterator} over the items of the List. It splits by copying growing runs of
+     * nodes into arrays and traverses the rest of the nodes directly.
+     * @return A {@link Spliterator}.
+     */
+    public Spliterator<E> spliterator() {
+        return new LinkedListSpliterator();
+    }
+
+    private class LinkedListSpliterator extends NodeSpliterator<Node<E>, E> {
+        Node<E> firstNode() {
+            return first;
+        }
+
+        int size() {
+            return len;
+        }
+
+        Node<E> next(Node<E> n) {
+            return n.next;
+        }
+
+        E item(Node<E> n) {
+            return n.item;
+        }
     }
 
     private class IterateLinkedList implements ListIterator<E> {
@@ -211,10 +443,11 @@ public class LinkedList<E> extends AbstractLinkedList<E> implements List<E> {
             if (lastRet == null)
                 throw new IllegalStateException();
 
-            lastRet.next = new Node<>(item, next);
+            lastRet.next = newNode(item, next);
             if (next == null)
                 last = lastRet.next;
             i++;
+            modCount++;
             len++;
             lastRet = null;
         }
@@ -242,6 +475,255 @@ public class LinkedList<E> extends AbstractLinkedList<E> implements List<E> {
         }
     }
 
+    private class SubList extends AbstractList<E> implements List<E> {
+        private final SubList parent;
+        /**
+         * The node right before the range, null if it starts at the first node. Changes made through the view never
+         * unlink it.
+         */
+        private final Node<E> before;
+        private int size;
+        private int expectedModCount;
+
+        SubList(SubList parent, Node<E> before, int size) {
+            this.parent = parent;
+            this.before = before;
+            this.size = size;
+            expectedModCount = modCount;
+        }
+
+        public void addFirst(E item) {
+            add(item, 0);
+        }
+
+        public void add(E item, int index) throws IndexOutOfBoundsException {
+            checkForComodification();
+            verifyPositionIndex(index);
+            linkAfter(item, index == 0 ? before : rangeNode(index - 1));
+            changed(1);
+        }
+
+        public void addLast(E item) {
+            add(item, size());
+        }
+
+        public E removeFirst() throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return remove(0);
+        }
+
+        public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+            checkForComodification();
+            verifyElementIndex(index);
+            final E remE = unlinkAfter(index == 0 ? before : rangeNode(index - 1));
+            changed(-1);
+            return remE;
+        }
+
+        public E removeLast() throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return remove(size - 1);
+        }
+
+        public E getFirst() throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return rangeNode(0).item;
+        }
+
+        public E get(int index) throws IndexOutOfBoundsException {
+            checkForComodification();
+            verifyElementIndex(index);
+            return rangeNode(index).item;
+        }
+
+        public E getLast() throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return rangeNode(size - 1).item;
+        }
+
+        public E setFirst(E item) throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return setNode(rangeNode(0), item);
+        }
+
+        public E set(E item, int index) throws IndexOutOfBoundsException {
+            checkForComodification();
+            verifyElementIndex(index);
+            return setNode(rangeNode(index), item);
+        }
+
+        public E setLast(E item) throws NoSuchElementException {
+            if (size() == 0)
+                throw new NoSuchElementException();
+            return setNode(rangeNode(size - 1), item);
+        }
+
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        public boolean removeIf(@NotNull Predicate<? super E> filter) {
+            Objects.requireNonNull(filter);
+            checkForComodification();
+            int removed = 0;
+            try {
+                Node<E> prev = before;
+                for (int i = size; i > 0; i--) {
+                    if (filter.test(prev == null ? first.item : prev.next.item)) {
+                        unlinkAfter(prev);
+                        removed++;
+                    } else
+                        prev = prev == null ? first : prev.next;
+                }
+            } finally {
+                changed(-removed);
+            }
+            return removed != 0;
+        }
+
+        public void clear() {
+            checkForComodification();
+            final int removed = size;
+            for (int i = removed; i > 0; i--)
+                unlinkAfter(before);
+            changed(-removed);
+        }
+
+        public List<E> subList(int first, int last) throws IllegalArgumentException {
+            checkForComodification();
+            verifyRange(first, last);
+            return new SubList(this, first == 0 ? before : rangeNode(first - 1), last - first);
+        }
+
+        public LinkedList<E> copyOfRange(int first, int last) throws IllegalArgumentException {
+            return (LinkedList<E>) subListOfList(first, last, new LinkedList<>());
+        }
+
+        public ListIterator<E> iterator() {
+            return iterator(0);
+        }
+
+        public ListIterator<E> iterator(int start) {
+            checkForComodification();
+            verifyPositionIndex(start);
+            return new SubListIterator(start, 0);
+        }
+
+        public ListIterator<E> iterator(int start, int stop) {
+            checkForComodification();
+            verifyPositionIndex(start);
+            if (start > stop)
+                throw new IllegalArgumentException(start + " is greater than " + stop);
+            return new SubListIterator(start, size - stop);
+        }
+
+        /**
+         * Finds the node at index of the view walking from the start of the range.
+         */
+        private Node<E> rangeNode(int index) {
+            // assert isElementIndex(index);
+            Node<E> n = before == null ? first : before.next;
+            for (int i = 0; i < index; i++)
+                n = n.next;
+            NodeHops.add(index);
+            return n;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        /**
+         * Records that delta items were added through the view, in it and in every view it was taken from.
+         */
+        private void changed(int delta) {
+            for (SubList s = this; s != null; s = s.parent) {
+                s.size += delta;
+                s.expectedModCount = modCount;
+            }
+        }
+
+        private class SubListIterator implements ListIterator<E> {
+            /**
+             * The node right before the next one, null if the next one is the first node of the List.
+             */
+            private Node<E> prev;
+            private Node<E> lastRetPrev;
+            private Node<E> lastRet = null;
+            private int i;
+            private final int stopDist;
+
+            SubListIterator(int i, int stopDist) {
+                this.i = i;
+                this.stopDist = stopDist;
+                prev = i == 0 ? before : rangeNode(i - 1);
+            }
+
+            public boolean hasNext() {
+                return i != size - stopDist;
+            }
+
+            public E next() throws NoSuchElementException {
+                checkForComodification();
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                lastRetPrev = prev;
+                lastRet = prev = prev == null ? first : prev.next;
+                i++;
+                return lastRet.item;
+            }
+
+            public void remove() throws IllegalStateException {
+                checkForComodification();
+                if (lastRet == null)
+                    throw new IllegalStateException();
+                unlinkAfter(lastRetPrev);
+                changed(-1);
+                prev = lastRetPrev;
+                i--;
+                lastRet = null;
+            }
+
+            public void add(E item) throws IllegalStateException {
+                checkForComodification();
+                if (lastRet == null)
+                    throw new IllegalStateException();
+                linkAfter(item, prev);
+                changed(1);
+                prev = prev == null ? first : prev.next;
+                i++;
+                lastRet = null;
+            }
+
+            public int index() {
+                return i - 1;
+            }
+
+            public int nextIndex() {
+                return i;
+            }
+
+            public E get() throws IllegalStateException {
+                if (lastRet == null)
+                    throw new IllegalStateException();
+                return lastRet.item;
+            }
+
+            public E set(E item) throws IllegalStateException {
+                if (lastRet == null)
+                    throw new IllegalStateException();
+                return setNode(lastRet, item);
+            }
+        }
+    }
+
     private static class Node<E> {
         Node<E> next;
         E item;
@@ -260,12 +742,121 @@ public class LinkedList<E> extends AbstractLinkedList<E> implements List<E> {
         Node<E> n = first;
         for (int i = 0; i < index; i++)
             n = n.next;
+        NodeHops.add(index);
+        ListEvents.nodeWalk(this, len, index, index);
+        return n;
+    }
+
+    /**
+     * Merges the run in runs[i] with a run of Nodes that come after it, emptying the slot, and returns the merged run.
+     * Ties take from runs[i] first, which keeps the sort stable. If cmp throws, every Node of both runs is left
+     * chained in runs[i].
+     */
+    private static <E> Node<E> mergeRuns(Node<E>[] runs, int i, Node<E> later, Comparator<? super E> cmp) {
+        Node<E> a = runs[i];
+        Node<E> b = later;
+        Node<E> head = null;
+        Node<E> tail = null;
+        try {
+            while (a != null && b != null) {
+                final Node<E> n;
+                if (cmp.compare(b.item, a.item) < 0) {
+                    n = b;
+                    b = b.next;
+                } else {
+                    n = a;
+                    a = a.next;
+                }
+                if (tail == null)
+                    head = n;
+                else
+                    tail.next = n;
+                tail = n;
+            }
+        } finally {
+            Node<E> rest = b;
+            if (a != null) {
+                rest = a;
+                while (a.next != null)
+                    a = a.next;
+                a.next = b;
+            }
+            if (tail == null)
+                head = rest;
+            else
+                tail.next = rest;
+            runs[i] = head;
+        }
+        runs[i] = null;
+        return head;
+    }
+
+    /**
+     * Links a node containing item after prev, or at the first position of the List if prev is null.
+     */
+    private void linkAfter(E item, Node<E> prev) {
+        if (prev == null) {
+            addFirst(item);
+            return;
+        }
+        prev.next = newNode(item, prev.next);
+        if (prev == last)
+            last = prev.next;
+        modCount++;
+        len++;
+    }
+
+    /**
+     * Unlinks the node after prev, or the first node of the List if prev is null, and returns its item.
+     */
+    private E unlinkAfter(Node<E> prev) {
+        final Node<E> n = prev == null ? first : prev.next;
+        if (prev == null)
+            first = n.next;
+        else
+            prev.next = n.next;
+        if (n == last)
+            last = prev;
+        final E remE = n.item;
+        unlinkNode(n);
+        modCount++;
+        len--;
+        return remE;
+    }
+
+    /**
+     * Takes a node from the free chain, or allocates one if it is empty, and fills it.
+     */
+    private Node<E> newNode(E item, Node<E> next) {
+        final Node<E> n = free;
+        if (n == null) {
+            if (pool != null)
+                pool.miss();
+            return new Node<>(item, next);
+        }
+        free = n.next;
+        freeCount--;
+        pool.hit();
+        n.item = item;
+        n.next = next;
         return n;
     }
 
+    /**
+     * Clears an unlinked node and keeps it in the free chain if the pool has room for it.
+     */
     private void unlinkNode(@NotNull Node<E> n) {
         n.next = null;
         n.item = null;
+        if (pool == null)
+            return;
+        if (freeCount < pool.capacity()) {
+            n.next = free;
+            free = n;
+            freeCount++;
+            pool.recycle();
+        } else
+            pool.drop();
     }
 
     private E setNode(Node<E> node, E item) {
@@ -3,6 +3,7 @@ package DataStructures;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.NoSuchElementException;
 
 /**
@@ -151,6 +152,20 @@ public interface List<E> extends Collection<E> {
      */
     boolean contains(Object o);
 
+    /**
+     * The position of the first occurrence of an item.
+     * @param o The item, which may be {@code null}.
+     * @return The position of the first item equal to {@code o}, or -1 if there is none.
+     */
+    int indexOf(Object o);
+
+    /**
+     * The position of the last occurrence of an item.
+     * @param o The item, which may be {@code null}.
+     * @return The position of the last item equal to {@code o}, or -1 if there is none.
+     */
+    int lastIndexOf(Object o);
+
     /**
      * Appends an item at the end of the List.
      * @param e The item to be appended.
@@ -236,7 +251,9 @@ public interface List<E> extends Collection<E> {
     <T> T[] toArray(T[] a);
 
     /**
-     * Creates a copy of a sub List of the instanced List from {@code first} to {@code last} and returns it.
+     * Returns a view of the items of the List from {@code first} to {@code last}. The view is backed by the List, so
+     * changes made through it are seen by the List and the other way around. Structural changes made to the List
+     * other than through the view leave the view undefined.
      * @param first The first position.
      * @param last The last position.
      * @return The sub list.
@@ -244,4 +261,31 @@ public interface List<E> extends Collection<E> {
      * greater than {@code last}.
      */
     List<E> subList(int first, int last) throws IllegalArgumentException;
+
+    /**
+     * Creates a copy of a sub List of the instanced List from {@code first} to {@code last} and returns it.
+     * @param first The first position.
+     * @param last The last position.
+     * @return The copy.
+     * @throws IllegalArgumentException If the {@code first} or {@code last} is out of range or if {@code first} is
+     * greater than {@code last}.
+     */
+    List<E> copyOfRange(int first, int last) throws IllegalArgumentException;
+
+    /**
+     * Sorts the items of the List in place. The sort is stable: equal items keep their order. If the Comparator
+     * throws, the List keeps every one of its items, though not necessarily in their former order.
+     * @param c The Comparator to order the items by, or {@code null} to use their natural ordering.
+     * @throws ClassCastException If c is {@code null} and the items are not {@link Comparable} with each other.
+     */
+    void sort(Comparator<? super E> c);
+
+    /**
+     * Freezes the current items of the List into a {@link PersistentList}, which stays unchanged whatever happens to
+     * this List afterwards and can be updated in O(log<sub>32</sub> n) without copying it.
+     * @return The snapshot.
+     */
+    default PersistentList<E> snapshot() {
+        return PersistentList.copyOf(this);
+    }
 }
@@ -0,0 +1,279 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams Lists to and from channels with items encoded by a {@link VariableWidthCodec}, using a fixed amount of
+ * memory whatever the size of the List.
+ * <p>
+ * A stream starts with a magic number and is followed by chunks, each a header holding the amount of bytes and of
+ * items in the chunk and then the encoded items, all in little-endian order. A chunk with no items ends the stream,
+ * so Lists are written without knowing their size in advance and several Lists may follow each other on a channel.
+ * Items are encoded into a direct buffer of {@link #chunkBytes()} bytes and each full buffer is written as a chunk;
+ * reading loads one whole chunk at a time. An item wider than the buffer makes the buffers of the writer and of the
+ * reader grow to fit it.
+ * </p>
+ * @param <E> The type of the streamed items.
+ * @author Eduardo Costa de Souza
+ * @see VariableWidthCodec
+ */
+public final class ListCodec<E> {
+    private static final int MAGIC = 0x4C535443;
+    private static final int HEADER_BYTES = 8;
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 16;
+
+    private final VariableWidthCodec<E> codec;
+    private final int chunkBytes;
+
+    /**
+     * Creates a ListCodec writing chunks of up to 64 KiB.
+     * @param codec The codec of the items.
+     */
+    public ListCodec(@NotNull VariableWidthCodec<E> codec) {
+        this(codec, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * @param codec The codec of the items.
+     * @param chunkBytes The size of the buffers used to write and read, headers included.
+     * @throws IllegalArgumentException If {@code chunkBytes} can not hold a header and a byte.
+     */
+    public ListCodec(@NotNull VariableWidthCodec<E> codec, int chunkBytes) throws IllegalArgumentException {
+        if (chunkBytes <= HEADER_BYTES)
+            throw new IllegalArgumentException("Illegal chunk size: " + chunkBytes);
+        this.codec = codec;
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * @return The size of the buffers used to write and read, headers included.
+     */
+    public int chunkBytes() {
+        return chunkBytes;
+    }
+
+    /**
+     * Writes every item of list to channel, iterating it once.
+     * @param list The List to be written.
+     * @param channel The channel to write to, left open.
+     * @throws IOException If the channel can not be written.
+     */
+    public void write(@NotNull List<? extends E> list, @NotNull WritableByteChannel channel) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocateDirect(chunkBytes).order(ByteOrder.LITTLE_ENDIAN);
+        chunk.putInt(MAGIC).flip();
+        writeFully(channel, chunk);
+
+        chunk.clear().position(HEADER_BYTES);
+        int items = 0;
+        for (E item : list) {
+            final int width = codec.maxWidth(item);
+            if (chunk.remaining() < width) {
+                if (items > 0) {
+                    writeChunk(channel, chunk, items);
+                    items = 0;
+                }
+                if (chunk.remaining() < width)
+                    chunk = ByteBuffer.allocateDirect(HEADER_BYTES + width).order(ByteOrder.LITTLE_ENDIAN)
+                            .position(HEADER_BYTES);
+            }
+            codec.write(item, chunk);
+            items++;
+        }
+        if (items > 0)
+            writeChunk(channel, chunk, items);
+        writeChunk(channel, chunk, 0);
+    }
+
+    /**
+     * Reads the next List of channel into a new {@link ArrayList}.
+     * @param channel The channel to read from, left open.
+     * @return The read List.
+     * @throws IOException If the channel can not be read or does not hold a List written by a ListCodec with an
+     * equal codec.
+     */
+    public ArrayList<E> read(@NotNull ReadableByteChannel channel) throws IOException {
+        return read(channel, new ArrayList<>());
+    }
+
+    /**
+     * Appends the items of the next List of channel to the end of into, one chunk at a time.
+     * @param channel The channel to read from, left open.
+     * @param into The List to which the items are appended.
+     * @return into.
+     * @throws IOException If the channel can not be read or does not hold a List written by a ListCodec with an
+     * equal codec.
+     */
+    public <L extends List<? super E>> L read(@NotNull ReadableByteChannel channel, @NotNull L into)
+            throws IOException {
+        final ChunkReader reader = new ChunkReader(channel);
+        while (reader.hasNext())
+            into.addLast(reader.next());
+        return into;
+    }
+
+    /**
+     * Returns an iterator decoding the next List of channel as it goes, reading a chunk only when the items of the
+     * previous one were all returned. The iterator can only go forward, and does not support {@code add},
+     * {@code remove} or {@code set}.
+     * @param channel The channel to read from, left open.
+     * @return The iterator.
+     * @throws IOException If the channel can not be read or does not start a stream.
+     */
+    public ListIterator<E> iterator(@NotNull ReadableByteChannel channel) throws IOException {
+        return new ChannelIterator(new ChunkReader(channel));
+    }
+
+    private class ChannelIterator implements ListIterator<E> {
+        private final ChunkReader reader;
+        private E lastRet;
+        private int nextI = 0;
+
+        ChannelIterator(ChunkReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * @throws UncheckedIOException If the next chunk can not be read.
+         */
+        public boolean hasNext() {
+            try {
+                return reader.hasNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * @throws UncheckedIOException If the next chunk can not be read.
+         */
+        public E next() throws NoSuchElementException {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            try {
+                lastRet = reader.next();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            nextI++;
+            return lastRet;
+        }
+
+        public int index() {
+            return nextI - 1;
+        }
+
+        public int nextIndex() {
+            return nextI;
+        }
+
+        public int prevIndex() {
+            return nextI - 1;
+        }
+
+        public E get() throws IllegalStateException {
+            if (nextI == 0)
+                throw new IllegalStateException();
+            return lastRet;
+        }
+
+        public E set(E item) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public void add(E item) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Decodes the items of a stream, loading a chunk into its buffer when the previous one was used up.
+     */
+    private class ChunkReader {
+        private final ReadableByteChannel channel;
+        private ByteBuffer chunk;
+        private int remaining = 0;
+        private boolean ended = false;
+
+        ChunkReader(ReadableByteChannel channel) throws IOException {
+            this.channel = channel;
+            chunk = ByteBuffer.allocateDirect(chunkBytes).order(ByteOrder.LITTLE_ENDIAN);
+            chunk.limit(Integer.BYTES);
+            readFully(channel, chunk);
+            if (chunk.getInt(0) != MAGIC)
+                throw new IOException("Not a List stream");
+        }
+
+        boolean hasNext() throws IOException {
+            while (remaining == 0 && !ended)
+                nextChunk();
+            return remaining > 0;
+        }
+
+        /**
+         * Decodes the next item, the caller having checked {@link #hasNext()}.
+         */
+        E next() throws IOException {
+            final E item;
+            try {
+                item = codec.read(chunk);
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("Malformed item in chunk", e);
+            }
+            if (--remaining == 0 && chunk.hasRemaining())
+                throw new IOException(chunk.remaining() + " bytes left after the last item of a chunk");
+            return item;
+        }
+
+        private void nextChunk() throws IOException {
+            chunk.clear().limit(HEADER_BYTES);
+            readFully(channel, chunk);
+            final int bytes = chunk.getInt(0);
+            final int items = chunk.getInt(Integer.BYTES);
+            if (items == 0 && bytes == 0) {
+                ended = true;
+                return;
+            }
+            if (bytes <= 0 || items <= 0)
+                throw new IOException("Illegal chunk header: " + bytes + " bytes, " + items + " items");
+            if (bytes > chunk.capacity())
+                chunk = ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            chunk.clear().limit(bytes);
+            readFully(channel, chunk);
+            chunk.flip();
+            remaining = items;
+        }
+    }
+
+    /**
+     * Writes the items encoded in chunk after its header, and clears it for the next chunk.
+     */
+    private static void writeChunk(WritableByteChannel channel, ByteBuffer chunk, int items) throws IOException {
+        chunk.putInt(0, chunk.position() - HEADER_BYTES).putInt(Integer.BYTES, items).flip();
+        writeFully(channel, chunk);
+        chunk.clear().position(HEADER_BYTES);
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            if (channel.read(buffer) < 0)
+                throw new IOException("Unexpected end of stream");
+    }
+}
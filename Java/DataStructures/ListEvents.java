@@ -0,0 +1,226 @@
+package DataStructures;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.MetadataDefinition;
+import jdk.jfr.Name;
+import jdk.jfr.SettingControl;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.Threshold;
+
+import java.util.Set;
+
+/**
+ * The JDK Flight Recorder events of the Lists of this package, marking where they do work that grows with their
+ * size.
+ * <ul>
+ *     <li>{@code DataStructures.ListNodeWalk}: {@link DoublyLinkedList} or {@link LinkedList} walked to the Node at an
+ *     index, emitted if it took at least {@code minHops} links, 1000 by default.</li>
+ *     <li>{@code DataStructures.ListBulkOp}: an {@code addAll}, {@code removeAll}, {@code retainAll},
+ *     {@code toArray} or {@code subList} that lasted at least {@code threshold}, 1 ms by default.</li>
+ *     <li>{@code DataStructures.ListIteratorCreated}: an iterator made to start past the first item that took at
+ *     least {@code threshold} to create, 100 &mu;s by default.</li>
+ * </ul>
+ * <p>
+ * The settings are changed like those of any event, for example with
+ * {@code recording.enable("DataStructures.ListNodeWalk").with("minHops", "100")} or in a {@code .jfc} file. While no
+ * recording has an event enabled, emitting it is a check of a flag on an object the JIT compiler does not allocate.
+ * </p>
+ * @author Eduardo Costa de Souza
+ */
+final class ListEvents {
+    private ListEvents() {
+    }
+
+    @Name("DataStructures.ListNodeWalk")
+    @Label("List Node Walk")
+    @Category({"DataStructures", "List"})
+    @Description("A linked List walked to the Node at an index")
+    static final class NodeWalk extends Event {
+        @Label("List Class")
+        Class<?> listClass;
+
+        @Label("List Identity")
+        @Description("The identity hash code of the List")
+        int listId;
+
+        @Label("Size")
+        int size;
+
+        @Label("Index")
+        int index;
+
+        @Label("Hops")
+        @Description("The number of links followed to reach the index")
+        int hops;
+
+        @Label("Minimum Hops")
+        @Name("minHops")
+        @SettingDefinition
+        boolean minHops(MinHops setting) {
+            return hops >= setting.minHops;
+        }
+    }
+
+    @Name("DataStructures.ListBulkOp")
+    @Label("List Bulk Operation")
+    @Category({"DataStructures", "List"})
+    @Description("An operation over many items of a List")
+    @Threshold("1 ms")
+    static final class BulkOp extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("List Class")
+        Class<?> listClass;
+
+        @Label("List Identity")
+        @Description("The identity hash code of the List")
+        int listId;
+
+        @Label("Size Before")
+        int sizeBefore;
+
+        @Label("Size After")
+        int sizeAfter;
+
+        @Label("Elements")
+        @Description("The number of items given to or produced by the operation")
+        int elements;
+    }
+
+    @Name("DataStructures.ListIteratorCreated")
+    @Label("List Iterator Created")
+    @Category({"DataStructures", "List"})
+    @Description("An iterator of a List made to start past the first item")
+    @Threshold("100 us")
+    static final class IteratorCreated extends Event {
+        @Label("List Class")
+        Class<?> listClass;
+
+        @Label("List Identity")
+        @Description("The identity hash code of the List")
+        int listId;
+
+        @Label("Size")
+        int size;
+
+        @Label("Start")
+        int start;
+
+        @Label("Stop")
+        int stop;
+    }
+
+    /**
+     * The {@code minHops} setting of {@link NodeWalk}. When several recordings set it, the lowest value is used.
+     */
+    @MetadataDefinition
+    @Label("Minimum Hops")
+    @Description("Walks taking fewer hops than this are not recorded")
+    public static final class MinHops extends SettingControl {
+        private static final String DEFAULT = "1000";
+
+        private volatile long minHops = Long.parseLong(DEFAULT);
+        private String value = DEFAULT;
+
+        public String combine(Set<String> values) {
+            long min = Long.MAX_VALUE;
+            String minValue = DEFAULT;
+            for (String v : values) {
+                final long hops = parse(v);
+                if (hops < min) {
+                    min = hops;
+                    minValue = v;
+                }
+            }
+            return minValue;
+        }
+
+        public void setValue(String value) {
+            minHops = parse(value);
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        private static long parse(String value) {
+            try {
+                return Math.max(0, Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                return Long.parseLong(DEFAULT);
+            }
+        }
+    }
+
+    /**
+     * Emits a {@link NodeWalk} if it is enabled and hops reaches its {@code minHops}.
+     */
+    static void nodeWalk(List<?> list, int size, int index, int hops) {
+        final NodeWalk e = new NodeWalk();
+        if (!e.isEnabled())
+            return;
+        e.hops = hops;
+        if (!e.shouldCommit())
+            return;
+        e.listClass = list.getClass();
+        e.listId = System.identityHashCode(list);
+        e.size = size;
+        e.index = index;
+        e.commit();
+    }
+
+    /**
+     * Starts timing a bulk operation, to be ended with {@link #endBulkOp(BulkOp, String, List, int, int)}.
+     */
+    static BulkOp beginBulkOp() {
+        final BulkOp e = new BulkOp();
+        e.begin();
+        return e;
+    }
+
+    /**
+     * Emits e if it is enabled and lasted at least its threshold.
+     */
+    static void endBulkOp(BulkOp e, String operation, List<?> list, int sizeBefore, int elements) {
+        e.end();
+        if (!e.shouldCommit())
+            return;
+        e.operation = operation;
+        e.listClass = list.getClass();
+        e.listId = System.identityHashCode(list);
+        e.sizeBefore = sizeBefore;
+        e.sizeAfter = list.size();
+        e.elements = elements;
+        e.commit();
+    }
+
+    /**
+     * Starts timing the creation of an iterator, to be ended with
+     * {@link #endIterator(IteratorCreated, List, int, int)}.
+     */
+    static IteratorCreated beginIterator() {
+        final IteratorCreated e = new IteratorCreated();
+        e.begin();
+        return e;
+    }
+
+    /**
+     * Emits e if it is enabled, start is not 0 and the creation lasted at least its threshold.
+     */
+    static void endIterator(IteratorCreated e, List<?> list, int start, int stop) {
+        e.end();
+        if (start == 0 || !e.shouldCommit())
+            return;
+        e.listClass = list.getClass();
+        e.listId = System.identityHashCode(list);
+        e.size = list.size();
+        e.start = start;
+        e.stop = stop;
+        e.commit();
+    }
+}
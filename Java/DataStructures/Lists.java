@@ -0,0 +1,506 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.InvalidParameterException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Lazy views over the {@link List}s of this package, computed on demand from the iterators of the Lists they are
+ * made of instead of being copied into new Lists.
+ * <p>
+ * The views can not be modified, neither directly nor through their iterators, but changes made to the underlying
+ * Lists show through them. Views can be chained, each item going through the whole chain only when it is reached.
+ * </p>
+ * @author Eduardo Costa de Souza
+ * @see List
+ */
+public final class Lists {
+    private Lists() {
+    }
+
+    /**
+     * Returns a view of list with mapper applied to each item every time the item is read. Its size is the size of
+     * list, and reaching a position costs as much as in list.
+     * @param list The List to be mapped.
+     * @param mapper The function applied to the items.
+     * @return The mapped view.
+     * @param <E> The type of element stored in the List.
+     * @param <R> The type of element of the view.
+     */
+    public static <E, R> List<R> map(@NotNull List<E> list, @NotNull Function<? super E, ? extends R> mapper) {
+        return new MapView<>(Objects.requireNonNull(list), Objects.requireNonNull(mapper));
+    }
+
+    /**
+     * Returns a view of the items of list that pass filter, tested every time they are reached. Its iterators can
+     * only go forward, and as the amount of passing items is not known without testing them all, {@code size},
+     * {@code get} and {@code getLast} walk list.
+     * @param list The List to be filtered.
+     * @param filter The test the items must pass.
+     * @return The filtered view.
+     * @param <E> The type of element stored in the List.
+     */
+    public static <E> List<E> filter(@NotNull List<E> list, @NotNull Predicate<? super E> filter) {
+        return new FilterView<>(Objects.requireNonNull(list), Objects.requireNonNull(filter));
+    }
+
+    /**
+     * Returns a view of the items of first followed by those of second. Its size is the sum of their sizes, and a
+     * position is reached in whichever of them holds it.
+     * @param first The List of the first items.
+     * @param second The List of the last items.
+     * @return The concatenated view.
+     * @param <E> The type of element of the view.
+     */
+    public static <E> List<E> concat(@NotNull List<? extends E> first, @NotNull List<? extends E> second) {
+        return new ConcatView<>(Objects.requireNonNull(first), Objects.requireNonNull(second));
+    }
+
+    /**
+     * Returns a view of the items of list from the last to the first. Its iterators walk the iterators of list
+     * backwards with {@link ListIterator#previous()}, so they can only be used over Lists whose iterators support it,
+     * which are all but {@link LinkedList} and {@link ConcurrentLinkedList}. Reversing a reversed view returns the
+     * List it was made of.
+     * @param list The List to be reversed.
+     * @return The reversed view.
+     * @param <E> The type of element stored in the List.
+     */
+    public static <E> List<E> reversed(@NotNull List<E> list) {
+        if (list instanceof ReversedView<E> reversed)
+            return reversed.list;
+        return new ReversedView<>(Objects.requireNonNull(list));
+    }
+
+    /**
+     * An iterator of a view, which can not modify it.
+     */
+    private abstract static class ViewIterator<E> implements ListIterator<E> {
+        public E set(E item) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public void add(E item) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class MapView<E, R> extends AbstractList<R> implements List<R> {
+        private final List<E> list;
+        private final Function<? super E, ? extends R> mapper;
+
+        MapView(List<E> list, Function<? super E, ? extends R> mapper) {
+            this.list = list;
+            this.mapper = mapper;
+        }
+
+        public int size() {
+            return list.size();
+        }
+
+        public R getFirst() throws NoSuchElementException {
+            return mapper.apply(list.getFirst());
+        }
+
+        public R get(int index) throws IndexOutOfBoundsException {
+            return mapper.apply(list.get(index));
+        }
+
+        public R getLast() throws NoSuchElementException {
+            return mapper.apply(list.getLast());
+        }
+
+        public ListIterator<R> iterator() {
+            return new MapIterator(list.iterator());
+        }
+
+        public ListIterator<R> iterator(int start) {
+            return new MapIterator(list.iterator(start));
+        }
+
+        public ListIterator<R> iterator(int start, int stop) {
+            return new MapIterator(list.iterator(start, stop));
+        }
+
+        private class MapIterator extends ViewIterator<R> {
+            private final ListIterator<E> it;
+
+            MapIterator(ListIterator<E> it) {
+                this.it = it;
+            }
+
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            public boolean hasPrevious() {
+                return it.hasPrevious();
+            }
+
+            public R next() throws NoSuchElementException {
+                return mapper.apply(it.next());
+            }
+
+            public R previous() throws NoSuchElementException {
+                return mapper.apply(it.previous());
+            }
+
+            public int index() {
+                return it.index();
+            }
+
+            public int nextIndex() {
+                return it.nextIndex();
+            }
+
+            public int prevIndex() {
+                return it.prevIndex();
+            }
+
+            public R get() throws IllegalStateException {
+                return mapper.apply(it.get());
+            }
+        }
+    }
+
+    private static final class FilterView<E> extends AbstractList<E> implements List<E> {
+        private final List<E> list;
+        private final Predicate<? super E> filter;
+
+        FilterView(List<E> list, Predicate<? super E> filter) {
+            this.list = list;
+            this.filter = filter;
+        }
+
+        public int size() {
+            int size = 0;
+            for (E e : list)
+                if (filter.test(e))
+                    size++;
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return !iterator().hasNext();
+        }
+
+        public E getFirst() throws NoSuchElementException {
+            return iterator().next();
+        }
+
+        public E get(int index) throws IndexOutOfBoundsException {
+            if (index < 0)
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+            final ListIterator<E> it = iterator(index, index + 1);
+            if (!it.hasNext())
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+            return it.next();
+        }
+
+        public E getLast() throws NoSuchElementException {
+            final ListIterator<E> it = iterator();
+            if (!it.hasNext())
+                throw new NoSuchElementException();
+            E item = it.next();
+            while (it.hasNext())
+                item = it.next();
+            return item;
+        }
+
+        public ListIterator<E> iterator() {
+            return new FilterIterator(Integer.MAX_VALUE);
+        }
+
+        public ListIterator<E> iterator(int start) {
+            return iterator(start, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Skips the first start passing items, so it walks list up to them.
+         */
+        public ListIterator<E> iterator(int start, int stop) {
+            if (start < 0)
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(start));
+            if (start > stop)
+                throw new InvalidParameterException(start + " is greater than " + stop);
+            final FilterIterator it = new FilterIterator(stop);
+            for (int i = 0; i < start; i++) {
+                if (!it.hasNext())
+                    throw new IndexOutOfBoundsException(outOfBoundsMsg(start));
+                it.next();
+            }
+            return it;
+        }
+
+        private class FilterIterator extends ViewIterator<E> {
+            private final ListIterator<E> it = list.iterator();
+            private final int stop;
+            private E next;
+            private boolean hasNext = false;
+            private E lastRet;
+            private int nextI = 0;
+
+            FilterIterator(int stop) {
+                this.stop = stop;
+            }
+
+            /**
+             * Tests the items of list until one passes, keeping it to be returned by {@link #next()}.
+             */
+            public boolean hasNext() {
+                if (hasNext)
+                    return true;
+                if (nextI == stop)
+                    return false;
+                while (it.hasNext()) {
+                    final E e = it.next();
+                    if (filter.test(e)) {
+                        next = e;
+                        return hasNext = true;
+                    }
+                }
+                return false;
+            }
+
+            public E next() throws NoSuchElementException {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                lastRet = next;
+                next = null;
+                hasNext = false;
+                nextI++;
+                return lastRet;
+            }
+
+            public int index() {
+                return nextI - 1;
+            }
+
+            public int nextIndex() {
+                return nextI;
+            }
+
+            public int prevIndex() {
+                return nextI - 1;
+            }
+
+            public E get() throws IllegalStateException {
+                if (nextI == 0)
+                    throw new IllegalStateException();
+                return lastRet;
+            }
+        }
+    }
+
+    private static final class ConcatView<E> extends AbstractList<E> implements List<E> {
+        private final List<? extends E> first;
+        private final List<? extends E> second;
+
+        ConcatView(List<? extends E> first, List<? extends E> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public int size() {
+            return first.size() + second.size();
+        }
+
+        public boolean isEmpty() {
+            return first.isEmpty() && second.isEmpty();
+        }
+
+        public E getFirst() throws NoSuchElementException {
+            return first.isEmpty() ? second.getFirst() : first.getFirst();
+        }
+
+        public E get(int index) throws IndexOutOfBoundsException {
+            verifyElementIndex(index);
+            final int firstLen = first.size();
+            return index < firstLen ? first.get(index) : second.get(index - firstLen);
+        }
+
+        public E getLast() throws NoSuchElementException {
+            return second.isEmpty() ? first.getLast() : second.getLast();
+        }
+
+        public ListIterator<E> iterator() {
+            return new ConcatIterator(0, size());
+        }
+
+        public ListIterator<E> iterator(int start) {
+            verifyPositionIndex(start);
+            return new ConcatIterator(start, size());
+        }
+
+        public ListIterator<E> iterator(int start, int stop) {
+            verifyPositionIndex(start);
+            if (start > stop)
+                throw new InvalidParameterException(start + " is greater than " + stop);
+            return new ConcatIterator(start, stop);
+        }
+
+        /**
+         * Walks an iterator of first up to its end and then one of second.
+         */
+        private class ConcatIterator extends ViewIterator<E> {
+            private final int firstLen = first.size();
+            private final ListIterator<? extends E> firstIt;
+            private final ListIterator<? extends E> secondIt;
+            private ListIterator<? extends E> lastIt = null;
+            private int nextI;
+            private int lastRetI;
+            private final int stop;
+
+            ConcatIterator(int start, int stop) {
+                lastRetI = nextI = start;
+                this.stop = stop;
+                firstIt = first.iterator(Math.min(start, firstLen));
+                secondIt = second.iterator(Math.max(start - firstLen, 0));
+            }
+
+            public boolean hasNext() {
+                return nextI < stop;
+            }
+
+            public boolean hasPrevious() {
+                return nextI != 0;
+            }
+
+            public E next() throws NoSuchElementException {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                lastIt = nextI < firstLen ? firstIt : secondIt;
+                lastRetI = nextI++;
+                return lastIt.next();
+            }
+
+            public E previous() throws NoSuchElementException {
+                if (!hasPrevious())
+                    throw new NoSuchElementException();
+                lastIt = nextI > firstLen ? secondIt : firstIt;
+                lastRetI = --nextI;
+                return lastIt.previous();
+            }
+
+            public int index() {
+                return lastRetI;
+            }
+
+            public int nextIndex() {
+                return nextI;
+            }
+
+            public int prevIndex() {
+                return nextI - 1;
+            }
+
+            public E get() throws IllegalStateException {
+                if (lastIt == null)
+                    throw new IllegalStateException();
+                return lastIt.get();
+            }
+        }
+    }
+
+    private static final class ReversedView<E> extends AbstractList<E> implements List<E> {
+        private final List<E> list;
+
+        ReversedView(List<E> list) {
+            this.list = list;
+        }
+
+        public int size() {
+            return list.size();
+        }
+
+        public E getFirst() throws NoSuchElementException {
+            return list.getLast();
+        }
+
+        public E get(int index) throws IndexOutOfBoundsException {
+            verifyElementIndex(index);
+            return list.get(list.size() - 1 - index);
+        }
+
+        public E getLast() throws NoSuchElementException {
+            return list.getFirst();
+        }
+
+        public ListIterator<E> iterator() {
+            return new ReversedIterator(0, size());
+        }
+
+        public ListIterator<E> iterator(int start) {
+            verifyPositionIndex(start);
+            return new ReversedIterator(start, size());
+        }
+
+        public ListIterator<E> iterator(int start, int stop) {
+            verifyPositionIndex(start);
+            if (start > stop)
+                throw new InvalidParameterException(start + " is greater than " + stop);
+            return new ReversedIterator(start, stop);
+        }
+
+        /**
+         * Walks an iterator of list backwards, starting from the position mirroring start.
+         */
+        private class ReversedIterator extends ViewIterator<E> {
+            private final int len = list.size();
+            private final ListIterator<E> it;
+            private int nextI;
+            private final int stop;
+
+            ReversedIterator(int start, int stop) {
+                nextI = start;
+                this.stop = stop;
+                it = list.iterator(len - start);
+            }
+
+            public boolean hasNext() {
+                return nextI < stop;
+            }
+
+            public boolean hasPrevious() {
+                return nextI != 0;
+            }
+
+            public E next() throws NoSuchElementException {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                nextI++;
+                return it.previous();
+            }
+
+            public E previous() throws NoSuchElementException {
+                if (!hasPrevious())
+                    throw new NoSuchElementException();
+                nextI--;
+                return it.next();
+            }
+
+            public int index() {
+                return len - 1 - it.index();
+            }
+
+            public int nextIndex() {
+                return nextI;
+            }
+
+            public int prevIndex() {
+                return nextI - 1;
+            }
+
+            public E get() throws IllegalStateException {
+                return it.get();
+            }
+        }
+    }
+}
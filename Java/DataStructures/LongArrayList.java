@@ -0,0 +1,211 @@
+package DataStructures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * An implementation of a {@link LongList} using a resizable array of {@code long}.
+ * @author Eduardo Costa de Souza
+ * @see LongList
+ * @see ArrayList
+ */
+public class LongArrayList extends AbstractPrimitiveList implements LongList {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private long[] items;
+    private int len;
+
+    public LongArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty List with room for capacity items before it has to grow. {@code new LongArrayList(5)}
+     * holds the item 5 instead.
+     * @param capacity The initial capacity.
+     * @return The empty List.
+     * @throws IllegalArgumentException If capacity is negative.
+     */
+    public static LongArrayList withCapacity(int capacity) {
+        return new LongArrayList(capacity);
+    }
+
+    private LongArrayList(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        items = new long[capacity];
+        len = 0;
+    }
+
+    public LongArrayList(long ... initList) {
+        items = initList.clone();
+        len = items.length;
+    }
+
+    public void addFirst(long item) {
+        add(item, 0);
+    }
+
+    public void add(long item, int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+        if (len == items.length)
+            grow(len + 1);
+        System.arraycopy(items, index, items, index + 1, len - index);
+        items[index] = item;
+        len++;
+    }
+
+    public void addLast(long item) {
+        if (len == items.length)
+            grow(len + 1);
+        items[len++] = item;
+    }
+
+    public long removeFirstLong() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return removeAt(0);
+    }
+
+    public long removeLong(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return removeAt(index);
+    }
+
+    public long removeLastLong() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return items[--len];
+    }
+
+    public long getFirstLong() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return items[0];
+    }
+
+    public long getLong(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return items[index];
+    }
+
+    public long getLastLong() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        return items[len - 1];
+    }
+
+    public long setLong(long item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        final long oldItem = items[index];
+        items[index] = item;
+        return oldItem;
+    }
+
+    public int size() {
+        return len;
+    }
+
+    public boolean contains(long item) {
+        for (int i = 0; i < len; i++)
+            if (items[i] == item)
+                return true;
+        return false;
+    }
+
+    public void clear() {
+        len = 0;
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int nextI = 0;
+
+            public boolean hasNext() {
+                return nextI < len;
+            }
+
+            public long nextLong() {
+                if (nextI >= len)
+                    throw new NoSuchElementException();
+                return items[nextI++];
+            }
+        };
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < len; i++)
+            sum += items[i];
+        return sum;
+    }
+
+    public long min() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        long min = items[0];
+        for (int i = 1; i < len; i++)
+            min = Math.min(min, items[i]);
+        return min;
+    }
+
+    public long max() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        long max = items[0];
+        for (int i = 1; i < len; i++)
+            max = Math.max(max, items[i]);
+        return max;
+    }
+
+    public long[] toLongArray() {
+        return Arrays.copyOf(items, len);
+    }
+
+    public List<Long> asList() {
+        return new LongListView(this);
+    }
+
+    /**
+     * Increases the capacity of the List, if necessary, so that it can hold at least {@code minCapacity} items
+     * without being resized.
+     * @param minCapacity The desired minimum capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > items.length)
+            grow(minCapacity);
+    }
+
+    /**
+     * Trims the capacity of the List to its current size.
+     */
+    public void trimToSize() {
+        if (len < items.length)
+            items = Arrays.copyOf(items, len);
+    }
+
+    public String toString() {
+        return Arrays.toString(toLongArray());
+    }
+
+    /**
+     * Grows the backing array by half of its length, or to minCapacity if that is not enough.
+     */
+    private void grow(int minCapacity) {
+        int newCapacity = items.length + (items.length >> 1);
+        if (newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        items = Arrays.copyOf(items, newCapacity);
+    }
+
+    /**
+     * Removes the item at index, shifting every following item one position to the left, and returns it.
+     */
+    private long removeAt(int index) {
+        final long remE = items[index];
+        System.arraycopy(items, index + 1, items, index, len - index - 1);
+        len--;
+        return remE;
+    }
+}
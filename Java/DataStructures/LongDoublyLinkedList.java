@@ -0,0 +1,323 @@
+package DataStructures;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * An implementation of a {@link LongList} using double chain Nodes that hold the {@code long} items unboxed.
+ * @author Eduardo Costa de Souza
+ * @see LongList
+ * @see DoublyLinkedList
+ */
+public class LongDoublyLinkedList extends AbstractPrimitiveList implements LongList {
+    private Node first;
+    private Node last;
+    private int len;
+
+    /**
+     * The last node resolved by {@link #node(int)} with its index, used as a third starting point for positional
+     * walks. It is always replaced as a whole and only trusted while {@link #modCount} matches. Reads write it, so
+     * concurrent reads are safe only while no write runs: a read overlapping a write can store a finger to the wrong
+     * node with the final {@link #modCount}, see {@link #cachesReads()}.
+     */
+    private Finger finger;
+    /**
+     * The number of structural changes made to the List.
+     */
+    private int modCount;
+
+    public LongDoublyLinkedList() {
+        len = 0;
+        first = null;
+        last = null;
+    }
+
+    public LongDoublyLinkedList(long ... initList) {
+        this();
+        for (long item : initList)
+            addLast(item);
+    }
+
+    public void addFirst(long item) {
+        linkFirst(item);
+    }
+
+    public void add(long item, int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+
+        if (index != len)
+            linkBefore(item, node(index));
+        else
+            linkLast(item);
+    }
+
+    public void addLast(long item) {
+        linkLast(item);
+    }
+
+    public long removeFirstLong() throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        return unlink(first);
+    }
+
+    public long removeLong(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return unlink(node(index));
+    }
+
+    public long removeLastLong() throws NoSuchElementException {
+        if (last == null)
+            throw new NoSuchElementException();
+        return unlink(last);
+    }
+
+    public long getFirstLong() throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        return first.item;
+    }
+
+    public long getLong(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return node(index).item;
+    }
+
+    public long getLastLong() throws NoSuchElementException {
+        if (last == null)
+            throw new NoSuchElementException();
+        return last.item;
+    }
+
+    public long setLong(long item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        final Node n = node(index);
+        final long oldItem = n.item;
+        n.item = item;
+        return oldItem;
+    }
+
+    public int size() {
+        return len;
+    }
+
+    /**
+     * Positional reads move the finger.
+     */
+    boolean cachesReads() {
+        return true;
+    }
+
+    public boolean contains(long item) {
+        for (Node n = first; n != null; n = n.next)
+            if (n.item == item)
+                return true;
+        return false;
+    }
+
+    public void clear() {
+        for (Node n = first; n != null; ) {
+            final Node next = n.next;
+            n.next = n.prev = null;
+            n = next;
+        }
+        first = last = null;
+        finger = null;
+        modCount++;
+        len = 0;
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private Node next = first;
+
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            public long nextLong() {
+                if (next == null)
+                    throw new NoSuchElementException();
+                final long item = next.item;
+                next = next.next;
+                return item;
+            }
+        };
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (Node n = first; n != null; n = n.next)
+            sum += n.item;
+        return sum;
+    }
+
+    public long min() throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        long min = first.item;
+        for (Node n = first.next; n != null; n = n.next)
+            min = Math.min(min, n.item);
+        return min;
+    }
+
+    public long max() throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        long max = first.item;
+        for (Node n = first.next; n != null; n = n.next)
+            max = Math.max(max, n.item);
+        return max;
+    }
+
+    public long[] toLongArray() {
+        final long[] arr = new long[len];
+        int i = 0;
+        for (Node n = first; n != null; n = n.next)
+            arr[i++] = n.item;
+        return arr;
+    }
+
+    public List<Long> asList() {
+        return new LongListView(this);
+    }
+
+    public String toString() {
+        return asList().toString();
+    }
+
+    private static class Node {
+        long item;
+        Node next, prev;
+
+        Node(Node prev, long item, Node next) {
+            this.item = item;
+            this.next = next;
+            this.prev = prev;
+        }
+    }
+
+    private static final class Finger {
+        final Node node;
+        final int index;
+        final int modCount;
+
+        Finger(Node node, int index, int modCount) {
+            this.node = node;
+            this.index = index;
+            this.modCount = modCount;
+        }
+    }
+
+    /**
+     * Finds the node at index walking from whichever of first, last or the finger is closest to it, and moves the
+     * finger to the found node.
+     */
+    private Node node(int index) {
+        // assert isElementIndex(index);
+
+        final int mc = modCount;
+        Node n;
+        int i;
+        if (index < len - 1 - index) {
+            n = first;
+            i = 0;
+        } else {
+            n = last;
+            i = len - 1;
+        }
+        final Finger f = finger;
+        if (f != null && f.modCount == mc && Math.abs(index - f.index) < Math.abs(index - i)) {
+            n = f.node;
+            i = f.index;
+        }
+
+        for (; i < index; i++)
+            n = n.next;
+        for (; i > index; i--)
+            n = n.prev;
+
+        if (f == null || f.node != n || f.modCount != mc)
+            finger = new Finger(n, index, mc);
+        return n;
+    }
+
+    /**
+     * Records a structural change. If the finger was valid and at expected, it is moved to the node to, shifting its
+     * index by shift, otherwise it is dropped.
+     */
+    private void moveFinger(Node expected, Node to, int shift) {
+        final Finger f = finger;
+        if (f != null && f.modCount == modCount && f.node == expected && to != null)
+            finger = new Finger(to, f.index + shift, modCount + 1);
+        else
+            finger = null;
+        modCount++;
+    }
+
+    /**
+     * Link a node containing e to the first position of the List.
+     */
+    private void linkFirst(long e) {
+        final Node f = first;
+        first = new Node(null, e, f);
+        if (f == null)
+            last = first;
+        else
+            f.prev = first;
+        modCount++;
+        len++;
+    }
+
+    /**
+     * Link a node containing e to the last position of the List.
+     */
+    private void linkLast(long e) {
+        final Node l = last;
+        last = new Node(l, e, null);
+        if (l == null)
+            first = last;
+        else
+            l.next = last;
+        modCount++;
+        len++;
+    }
+
+    private void linkBefore(long e, Node next) {
+        final Node prev = next.prev;
+        final Node newNode = new Node(prev, e, next);
+        next.prev = newNode;
+        if (prev != null)
+            prev.next = newNode;
+        else
+            first = newNode;
+        moveFinger(next, next, 1);
+        len++;
+    }
+
+    /**
+     * Unlinks the node passed as parameter and returns the removed item.
+     */
+    private long unlink(Node node) {
+        // assert node != null
+        final Node prev = node.prev;
+        final Node next = node.next;
+
+        if (next != null) {
+            next.prev = prev;
+            node.next = null;
+        } else
+            last = prev;
+
+        if (prev != null) {
+            prev.next = next;
+            node.prev = null;
+        } else
+            first = next;
+
+        // the node after the removed one takes its index
+        moveFinger(node, next, 0);
+        len--;
+        return node.item;
+    }
+}
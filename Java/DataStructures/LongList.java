@@ -0,0 +1,148 @@
+package DataStructures;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A specialization of {@link List} that stores {@code long} values without boxing them.
+ * <p>
+ * It does not implement {@link List} itself, use {@link #asList()} to pass it to code written against
+ * {@code List<Long>}.
+ * </p>
+ * @author Eduardo Costa de Souza
+ * @see List
+ */
+public interface LongList {
+    /**
+     * Inserts an item in the first index of the List.
+     * @param item The item to be inserted.
+     */
+    void addFirst(long item);
+
+    /**
+     * Inserts an item at the given index of the List.
+     * @param item The item to be inserted.
+     * @param index The index in which the item will be inserted.
+     * @throws IndexOutOfBoundsException If index is out of bounds.
+     */
+    void add(long item, int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Appends an item at the end of the List.
+     * @param item The item to be appended.
+     */
+    void addLast(long item);
+
+    /**
+     * Removes the first item of the List.
+     * @return The removed item.
+     * @throws NoSuchElementException If the List is empty.
+     */
+    long removeFirstLong() throws NoSuchElementException;
+
+    /**
+     * Removes an item at the specified index of the List.
+     * @param index The index of the item to be removed.
+     * @return The removed item.
+     * @throws IndexOutOfBoundsException If index is out of bounds.
+     */
+    long removeLong(int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Removes the last item of the List.
+     * @return The removed item.
+     * @throws NoSuchElementException If the List is empty.
+     */
+    long removeLastLong() throws NoSuchElementException;
+
+    /**
+     * Get the first item of the List.
+     * @return The item.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    long getFirstLong() throws NoSuchElementException;
+
+    /**
+     * Get the item at the specified index.
+     * @param index The index of the item to be got.
+     * @return The item at the index.
+     * @throws IndexOutOfBoundsException If index is out of bounds.
+     */
+    long getLong(int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Get the last item of the List.
+     * @return The item.
+     * @throws NoSuchElementException If the list is empty.
+     */
+    long getLastLong() throws NoSuchElementException;
+
+    /**
+     * Replaces the item at the specified position for the given item.
+     * @param item The item to be stored at the specified index.
+     * @param index The index of the item to be replaced.
+     * @return The previous item at the position;
+     * @throws IndexOutOfBoundsException If the index is inaccessible.
+     */
+    long setLong(long item, int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Gets the size of the List.
+     * @return The size.
+     */
+    int size();
+
+    /**
+     * Tells if the List is empty.
+     * @return {@code true} the List is empty.
+     */
+    boolean isEmpty();
+
+    /**
+     * If the List contains an item.
+     * @param item The item.
+     * @return {@code true} if the List contains {@code item}.
+     */
+    boolean contains(long item);
+
+    /**
+     * Empties the List.
+     */
+    void clear();
+
+    /**
+     * Returns an iterator over the items of the List that does not box them.
+     * @return A {@link PrimitiveIterator.OfLong}.
+     */
+    PrimitiveIterator.OfLong iterator();
+
+    /**
+     * @return The sum of every item of the List, {@code 0} if it is empty.
+     */
+    long sum();
+
+    /**
+     * @return The smallest item of the List.
+     * @throws NoSuchElementException If the List is empty.
+     */
+    long min() throws NoSuchElementException;
+
+    /**
+     * @return The greatest item of the List.
+     * @throws NoSuchElementException If the List is empty.
+     */
+    long max() throws NoSuchElementException;
+
+    /**
+     * Copies the List to a new array with the size of {@link #size()}.
+     * @return The new array.
+     */
+    long[] toLongArray();
+
+    /**
+     * Returns a {@link List} view of this List. Changes made through the view write through to this List and every
+     * item is boxed when read.
+     * @return The view.
+     */
+    List<Long> asList();
+}
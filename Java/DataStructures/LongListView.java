@@ -0,0 +1,54 @@
+package DataStructures;
+
+/**
+ * A boxed {@link List} view over a {@link LongList}.
+ * @author Eduardo Costa de Souza
+ * @see LongList#asList()
+ */
+class LongListView extends AbstractIndexedList<Long> implements List<Long> {
+    private final LongList list;
+
+    LongListView(LongList list) {
+        this.list = list;
+    }
+
+    public int size() {
+        return list.size();
+    }
+
+    boolean cachesReads() {
+        return list instanceof AbstractPrimitiveList l && l.cachesReads();
+    }
+
+    public Long get(int index) throws IndexOutOfBoundsException {
+        return list.getLong(index);
+    }
+
+    public Long set(Long item, int index) throws IndexOutOfBoundsException {
+        return list.setLong(item, index);
+    }
+
+    public void add(Long item, int index) throws IndexOutOfBoundsException {
+        list.add(item, index);
+    }
+
+    public Long remove(int index) throws IndexOutOfBoundsException {
+        return list.removeLong(index);
+    }
+
+    public void addFirst(Long item) {
+        list.addFirst(item);
+    }
+
+    public void addLast(Long item) {
+        list.addLast(item);
+    }
+
+    public boolean contains(Object o) {
+        return o instanceof Long l && list.contains(l);
+    }
+
+    public void clear() {
+        list.clear();
+    }
+}
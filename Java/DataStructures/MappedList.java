@@ -0,0 +1,262 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+
+/**
+ * An implementation of a {@link List} whose items, encoded by a {@link FixedWidthCodec}, live in a memory mapped
+ * file. Growing the List maps new regions at the end of the file, and {@link #force()} makes every change durable.
+ * <p>
+ * The file starts with a header holding a magic number, the width of the items and the size of the List, followed
+ * by the encoded items in little-endian order. Files written by {@link #save(List, Path, FixedWidthCodec)} use the
+ * same layout, so they can be opened as a {@code MappedList} and read back by {@link #load(Path, FixedWidthCodec)}.
+ * </p>
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see FixedWidthCodec
+ * @see OffHeapList
+ */
+public class MappedList<E> extends AbstractChunkedList<E> implements List<E>, Closeable {
+    private static final int MAGIC = 0x4C495354;
+    private static final int HEADER_BYTES = 16;
+    private static final int SIZE_OFFSET = 8;
+    private static final int REGION_BYTES = 1 << 24;
+    private static final int TRANSFER_BYTES = 1 << 16;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+
+    private MappedList(@NotNull Path path, @NotNull FileChannel channel, @NotNull FixedWidthCodec<E> codec)
+            throws IOException {
+        super(codec, REGION_BYTES);
+        this.path = path;
+        this.channel = channel;
+        final boolean created = channel.size() == 0;
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        if (created) {
+            header.putInt(0, MAGIC).putInt(4, width).putLong(SIZE_OFFSET, 0);
+            return;
+        }
+        final long size = readHeader(header, width);
+        ensureCapacity((int) size);
+        len = (int) size;
+    }
+
+    /**
+     * Opens the List stored at path, creating an empty one if the file does not exist.
+     * @param path The file of the List.
+     * @param codec The codec of the items, it must have the same width used to create the file.
+     * @return The opened List.
+     * @throws IOException If the file can not be opened or was not created with an equally wide codec.
+     */
+    public static <E> MappedList<E> open(@NotNull Path path, @NotNull FixedWidthCodec<E> codec) throws IOException {
+        final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MappedList<>(path, channel, codec);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    ByteBuffer newChunk(int chunk) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + (long) chunk * chunkBytes, chunkBytes)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void lengthChanged() {
+        header.putLong(SIZE_OFFSET, len);
+    }
+
+    /**
+     * Writes every change made to the List to the storage device holding its file.
+     */
+    public void force() {
+        verifyOpen();
+        for (ByteBuffer chunk : chunks)
+            ((MappedByteBuffer) chunk).force();
+        header.force();
+    }
+
+    /**
+     * Forces every change to the file and closes it. No item can be read from the List after this call.
+     * @throws IOException If the file can not be closed.
+     */
+    public void close() throws IOException {
+        if (chunks == null)
+            return;
+        force();
+        chunks = null;
+        channel.close();
+    }
+
+    /**
+     * Writes every item of list to path, replacing the file if it exists, in the layout read by
+     * {@link #open(Path, FixedWidthCodec)} and {@link #load(Path, FixedWidthCodec)}. Items are encoded in batches and
+     * chunked lists are copied chunk by chunk.
+     * <p>
+     * The items are written to a temporary file next to path, which then replaces it, so a failed save leaves the
+     * old file whole. Saving a MappedList to its own file with its own codec only {@link #force()}s it.
+     * </p>
+     * @param list The List to be saved.
+     * @param path The file to write to.
+     * @param codec The codec of the items.
+     * @throws IOException If the file can not be written, or if list is a MappedList being saved to its own file
+     * with another codec.
+     */
+    public static <E> void save(@NotNull List<E> list, @NotNull Path path, @NotNull FixedWidthCodec<E> codec)
+            throws IOException {
+        if (list instanceof MappedList<E> mapped && Files.exists(path) && Files.isSameFile(mapped.path, path)) {
+            if (mapped.codec != codec)
+                throw new IOException("A MappedList can not be saved to its own file with another codec");
+            mapped.force();
+            return;
+        }
+        final Path dir = path.toAbsolutePath().getParent();
+        final Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            write(list, tmp, codec);
+            try {
+                Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Writes every item of list to the existing file at path, in the layout described by the class.
+     */
+    private static <E> void write(List<E> list, Path path, FixedWidthCodec<E> codec) throws IOException {
+        final int width = codec.width();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(width).putLong(list.size()).flip();
+            writeFully(channel, header);
+
+            // chunks already holding the items as they go to the file are copied as they are
+            if (list instanceof AbstractChunkedList<E> chunked && chunked.codec == codec && chunked.len > 0
+                    && chunked.chunks[0].order() == ByteOrder.LITTLE_ENDIAN) {
+                long remaining = (long) chunked.len * width;
+                for (int c = 0; remaining > 0; c++) {
+                    final int bytes = (int) Math.min(remaining, chunked.chunkBytes);
+                    writeFully(channel, chunked.chunks[c].duplicate().limit(bytes).position(0));
+                    remaining -= bytes;
+                }
+                return;
+            }
+
+            final ByteBuffer batch = ByteBuffer.allocateDirect(Math.max(TRANSFER_BYTES / width, 1) * width)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            for (E item : list) {
+                if (batch.remaining() < width) {
+                    batch.flip();
+                    writeFully(channel, batch);
+                    batch.clear();
+                }
+                codec.write(item, batch, batch.position());
+                batch.position(batch.position() + width);
+            }
+            batch.flip();
+            writeFully(channel, batch);
+        }
+    }
+
+    /**
+     * Reads every item stored at path into a new {@link ArrayList}.
+     * @param path The file to read from.
+     * @param codec The codec of the items, it must have the same width used to write the file.
+     * @return The read List.
+     * @throws IOException If the file can not be read or was not written with an equally wide codec.
+     */
+    public static <E> ArrayList<E> load(@NotNull Path path, @NotNull FixedWidthCodec<E> codec) throws IOException {
+        return loadInto(path, codec, ArrayList::withCapacity);
+    }
+
+    /**
+     * Appends every item stored at path to the end of into.
+     * @param path The file to read from.
+     * @param codec The codec of the items, it must have the same width used to write the file.
+     * @param into The List to which the items are appended.
+     * @return into.
+     * @throws IOException If the file can not be read or was not written with an equally wide codec.
+     */
+    public static <E, L extends List<E>> L load(@NotNull Path path, @NotNull FixedWidthCodec<E> codec,
+                                                @NotNull L into) throws IOException {
+        return loadInto(path, codec, size -> into);
+    }
+
+    /**
+     * Reads the file at path appending its items to the List created by target from the stored size.
+     */
+    private static <E, L extends List<E>> L loadInto(Path path, FixedWidthCodec<E> codec, IntFunction<L> target)
+            throws IOException {
+        final int width = codec.width();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header);
+            long remaining = readHeader(header, width);
+            final L into = target.apply((int) remaining);
+
+            final ByteBuffer batch = ByteBuffer.allocateDirect(Math.max(TRANSFER_BYTES / width, 1) * width)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            while (remaining > 0) {
+                final int items = (int) Math.min(remaining, batch.capacity() / width);
+                batch.clear().limit(items * width);
+                readFully(channel, batch);
+                for (int i = 0; i < items; i++)
+                    into.addLast(codec.read(batch, i * width));
+                remaining -= items;
+            }
+            return into;
+        }
+    }
+
+    /**
+     * Validates the header and returns the size of the List it describes.
+     */
+    private static long readHeader(ByteBuffer header, int width) throws IOException {
+        if (header.getInt(0) != MAGIC)
+            throw new IOException("Not a List file");
+        if (header.getInt(4) != width)
+            throw new IOException("The List was stored with items of " + header.getInt(4) + " bytes, not " + width);
+        final long size = header.getLong(SIZE_OFFSET);
+        if (size < 0 || size > Integer.MAX_VALUE)
+            throw new IOException("Illegal List size: " + size);
+        return size;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            if (channel.read(buffer) < 0)
+                throw new IOException("Unexpected end of file");
+    }
+}
@@ -0,0 +1,691 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * A decorator that measures how a {@link List} is used: how many times each {@link Operation} is called, how long
+ * it takes, and how many links the linked Lists of this package follow to reach the indexes it asks for.
+ * <p>
+ * Every call is counted, and the latency of every {@code timingInterval}-th call of each Operation is recorded in a
+ * {@link LatencyHistogram}. Reading the clock costs more than most operations, so timing only some calls is what keeps
+ * an enabled MeteredList to a few nanoseconds per call. Node hops are only counted if the JVM runs with
+ * {@code -DDataStructures.metrics.nodeHops=true}, they are the steps taken by {@link DoublyLinkedList},
+ * {@link LinkedList}, {@link UnrolledLinkedList}, {@link IndexedSkipList} and {@link IntrusiveLinkedList} to find the
+ * Node at an index, including when an iterator is made. A disabled MeteredList only checks a flag before delegating.
+ * </p>
+ * <p>
+ * The measures are read with {@link #stats()}, or through JMX once the List is registered with
+ * {@link #registerMBean(String)}. Sub lists are views over the MeteredList, so what is done through them is measured
+ * as calls to it. The MeteredList is as thread safe as the List it decorates; like the counters of {@link NodePool},
+ * its call and hop counters are not synchronized, so a List used from several threads reports approximate numbers.
+ * </p>
+ * <pre>{@code
+ * MeteredList<String> list = MeteredList.wrap(new DoublyLinkedList<>());
+ * ...
+ * System.out.println(list.stats().get(MeteredList.Operation.GET));
+ * }</pre>
+ * @param <E> The type of element stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see LatencyHistogram
+ * @see MeteredListMXBean
+ */
+public final class MeteredList<E> extends AbstractList<E> implements List<E> {
+    private static final int DEFAULT_TIMING_INTERVAL = 64;
+    private static final long UNTIMED = Long.MIN_VALUE;
+
+    /**
+     * The operations measured by a {@link MeteredList}.
+     */
+    public enum Operation {
+        ADD_FIRST, ADD, ADD_LAST, REMOVE_FIRST, REMOVE, REMOVE_LAST, GET_FIRST, GET, GET_LAST, SET_FIRST, SET,
+        SET_LAST, CONTAINS, INDEX_OF, LAST_INDEX_OF, REMOVE_OBJECT, ADD_ALL, REMOVE_ALL, RETAIN_ALL, REMOVE_IF, CLEAR,
+        FOR_EACH, ITERATOR, TO_ARRAY, COPY_OF_RANGE, SNAPSHOT, SORT
+    }
+
+    /**
+     * What was measured for an {@link Operation} up to the moment {@link MeteredList#stats()} was called.
+     */
+    public static final class Stats {
+        private final long calls;
+        private final long nodeHops;
+        private final LatencyHistogram latency;
+
+        private Stats(long calls, long nodeHops, LatencyHistogram latency) {
+            this.calls = calls;
+            this.nodeHops = nodeHops;
+            this.latency = latency;
+        }
+
+        /**
+         * @return The number of calls.
+         */
+        public long calls() {
+            return calls;
+        }
+
+        /**
+         * @return The number of links followed during the calls, always 0 if node hops are not being counted.
+         */
+        public long nodeHops() {
+            return nodeHops;
+        }
+
+        /**
+         * @return The latencies of the calls that were timed.
+         */
+        public LatencyHistogram latency() {
+            return latency;
+        }
+
+        public String toString() {
+            return "Stats[calls=" + calls + ", nodeHops=" + nodeHops + ", latency=" + latency + "]";
+        }
+    }
+
+    private static final class Meter {
+        long calls;
+        long hops;
+        final LatencyHistogram latency = new LatencyHistogram();
+    }
+
+    private final List<E> list;
+    private final int timingMask;
+    private final Meter[] meters;
+    private volatile boolean enabled = true;
+    private ObjectName objectName;
+
+    private MeteredList(List<E> list, int timingInterval) {
+        this.list = list;
+        this.timingMask = timingInterval - 1;
+        meters = new Meter[Operation.values().length];
+        for (int i = 0; i < meters.length; i++)
+            meters[i] = new Meter();
+    }
+
+    /**
+     * Decorates list, timing one call in 64.
+     * @param list The List to be measured.
+     * @return The enabled MeteredList.
+     * @param <E> The type of element stored in the List.
+     */
+    public static <E> MeteredList<E> wrap(@NotNull List<E> list) {
+        return wrap(list, DEFAULT_TIMING_INTERVAL);
+    }
+
+    /**
+     * Decorates list, timing one call in timingInterval.
+     * @param list The List to be measured.
+     * @param timingInterval A power of two, 1 to time every call.
+     * @return The enabled MeteredList.
+     * @param <E> The type of element stored in the List.
+     * @throws IllegalArgumentException If timingInterval is not a power of two.
+     */
+    public static <E> MeteredList<E> wrap(@NotNull List<E> list, int timingInterval) throws IllegalArgumentException {
+        Objects.requireNonNull(list);
+        if (timingInterval <= 0 || Integer.bitCount(timingInterval) != 1)
+            throw new IllegalArgumentException("Illegal timing interval: " + timingInterval);
+        return new MeteredList<>(list, timingInterval);
+    }
+
+    /**
+     * @return The decorated List, whose calls are not measured.
+     */
+    public List<E> unwrap() {
+        return list;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops measuring. The measures taken so far are kept.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return What was measured for each Operation called at least once since the last {@link #reset()}.
+     */
+    public Map<Operation, Stats> stats() {
+        final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+        for (Operation op : Operation.values()) {
+            final Meter m = meters[op.ordinal()];
+            final long calls = m.calls;
+            if (calls != 0)
+                stats.put(op, new Stats(calls, m.hops, m.latency.copy()));
+        }
+        return stats;
+    }
+
+    /**
+     * Sets every counter and distribution back to zero.
+     */
+    public void reset() {
+        for (Meter m : meters) {
+            m.calls = m.hops = 0;
+            m.latency.reset();
+        }
+    }
+
+    /**
+     * Registers a {@link MeteredListMXBean} of this List in the platform MBean server, under
+     * {@code DataStructures:type=MeteredList,name=<name>}.
+     * @param name The name of the List in JMX.
+     * @return The name the MBean was registered under.
+     * @throws JMException If the name is not valid or is already taken.
+     * @throws IllegalStateException If this List is already registered.
+     */
+    public synchronized ObjectName registerMBean(String name) throws JMException, IllegalStateException {
+        if (objectName != null)
+            throw new IllegalStateException("Already registered as " + objectName);
+        final ObjectName on = new ObjectName("DataStructures:type=MeteredList,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(new MBean(), on);
+        objectName = on;
+        return on;
+    }
+
+    /**
+     * Unregisters the MBean registered by {@link #registerMBean(String)}, if there is one.
+     * @throws JMException If the MBean server fails to unregister it.
+     */
+    public synchronized void unregisterMBean() throws JMException {
+        if (objectName == null)
+            return;
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        objectName = null;
+    }
+
+    public void addFirst(E item) {
+        if (!enabled) {
+            list.addFirst(item);
+            return;
+        }
+        final long hops = NodeHops.current();
+        final long start = start(Operation.ADD_FIRST);
+        try {
+            list.addFirst(item);
+        } finally {
+            stop(Operation.ADD_FIRST, start, hops);
+        }
+    }
+
+    public void add(E item, int index) throws IndexOutOfBoundsException {
+        if (!enabled) {
+            list.add(item, index);
+            return;
+        }
+        final long hops = NodeHops.current();
+        final long start = start(Operation.ADD);
+        try {
+            list.add(item, index);
+        } finally {
+            stop(Operation.ADD, start, hops);
+        }
+    }
+
+    public void addLast(E item) {
+        if (!enabled) {
+            list.addLast(item);
+            return;
+        }
+        final long hops = NodeHops.current();
+        final long start = start(Operation.ADD_LAST);
+        try {
+            list.addLast(item);
+        } finally {
+            stop(Operation.ADD_LAST, start, hops);
+        }
+    }
+
+    public E removeFirst() throws NoSuchElementException {
+        if (!enabled)
+            return list.removeFirst();
+        final long hops = NodeHops.current();
+        final long start = start(Operation.REMOVE_FIRST);
+        try {
+            return list.removeFirst();
+        } finally {
+            stop(Operation.REMOVE_FIRST, start, hops);
+        }
+    }
+
+    public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+        if (!enabled)
+            return list.remove(index);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.REMOVE);
+        try {
+            return list.remove(index);
+        } finally {
+            stop(Operation.REMOVE, start, hops);
+        }
+    }
+
+    public E removeLast() throws NoSuchElementException {
+        if (!enabled)
+            return list.removeLast();
+        final long hops = NodeHops.current();
+        final long start = start(Operation.REMOVE_LAST);
+        try {
+            return list.removeLast();
+        } finally {
+            stop(Operation.REMOVE_LAST, start, hops);
+        }
+    }
+
+    public E getFirst() throws NoSuchElementException {
+        if (!enabled)
+            return list.getFirst();
+        final long hops = NodeHops.current();
+        final long start = start(Operation.GET_FIRST);
+        try {
+            return list.getFirst();
+        } finally {
+            stop(Operation.GET_FIRST, start, hops);
+        }
+    }
+
+    public E get(int index) throws IndexOutOfBoundsException {
+        if (!enabled)
+            return list.get(index);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.GET);
+        try {
+            return list.get(index);
+        } finally {
+            stop(Operation.GET, start, hops);
+        }
+    }
+
+    public E getLast() throws NoSuchElementException {
+        if (!enabled)
+            return list.getLast();
+        final long hops = NodeHops.current();
+        final long start = start(Operation.GET_LAST);
+        try {
+            return list.getLast();
+        } finally {
+            stop(Operation.GET_LAST, start, hops);
+        }
+    }
+
+    public E setFirst(E item) throws NoSuchElementException {
+        if (!enabled)
+            return list.setFirst(item);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.SET_FIRST);
+        try {
+            return list.setFirst(item);
+        } finally {
+            stop(Operation.SET_FIRST, start, hops);
+        }
+    }
+
+    public E set(E item, int index) throws IndexOutOfBoundsException {
+        if (!enabled)
+            return list.set(item, index);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.SET);
+        try {
+            return list.set(item, index);
+        } finally {
+            stop(Operation.SET, start, hops);
+        }
+    }
+
+    public E setLast(E item) throws NoSuchElementException {
+        if (!enabled)
+            return list.setLast(item);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.SET_LAST);
+        try {
+            return list.setLast(item);
+        } finally {
+            stop(Operation.SET_LAST, start, hops);
+        }
+    }
+
+    public int size() {
+        return list.size();
+    }
+
+    boolean cachesReads() {
+        return list instanceof AbstractList<?> l && l.cachesReads();
+    }
+
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    public boolean contains(Object o) {
+        if (!enabled)
+            return list.contains(o);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.CONTAINS);
+        try {
+            return list.contains(o);
+        } finally {
+            stop(Operation.CONTAINS, start, hops);
+        }
+    }
+
+    public int indexOf(Object o) {
+        if (!enabled)
+            return list.indexOf(o);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.INDEX_OF);
+        try {
+            return list.indexOf(o);
+        } finally {
+            stop(Operation.INDEX_OF, start, hops);
+        }
+    }
+
+    public int lastIndexOf(Object o) {
+        if (!enabled)
+            return list.lastIndexOf(o);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.LAST_INDEX_OF);
+        try {
+            return list.lastIndexOf(o);
+        } finally {
+            stop(Operation.LAST_INDEX_OF, start, hops);
+        }
+    }
+
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    public boolean remove(Object o) {
+        if (!enabled)
+            return list.remove(o);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.REMOVE_OBJECT);
+        try {
+            return list.remove(o);
+        } finally {
+            stop(Operation.REMOVE_OBJECT, start, hops);
+        }
+    }
+
+    public boolean addAll(@NotNull Collection<? extends E> c) {
+        if (!enabled)
+            return list.addAll(c);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.ADD_ALL);
+        try {
+            return list.addAll(c);
+        } finally {
+            stop(Operation.ADD_ALL, start, hops);
+        }
+    }
+
+    public boolean removeAll(@NotNull Collection<?> c) {
+        if (!enabled)
+            return list.removeAll(c);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.REMOVE_ALL);
+        try {
+            return list.removeAll(c);
+        } finally {
+            stop(Operation.REMOVE_ALL, start, hops);
+        }
+    }
+
+    public boolean retainAll(@NotNull Collection<?> c) {
+        if (!enabled)
+            return list.retainAll(c);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.RETAIN_ALL);
+        try {
+            return list.retainAll(c);
+        } finally {
+            stop(Operation.RETAIN_ALL, start, hops);
+        }
+    }
+
+    public boolean removeIf(@NotNull Predicate<? super E> filter) {
+        if (!enabled)
+            return list.removeIf(filter);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.REMOVE_IF);
+        try {
+            return list.removeIf(filter);
+        } finally {
+            stop(Operation.REMOVE_IF, start, hops);
+        }
+    }
+
+    public void clear() {
+        if (!enabled) {
+            list.clear();
+            return;
+        }
+        final long hops = NodeHops.current();
+        final long start = start(Operation.CLEAR);
+        try {
+            list.clear();
+        } finally {
+            stop(Operation.CLEAR, start, hops);
+        }
+    }
+
+    public void sort(Comparator<? super E> c) {
+        if (!enabled) {
+            list.sort(c);
+            return;
+        }
+        final long hops = NodeHops.current();
+        final long start = start(Operation.SORT);
+        try {
+            list.sort(c);
+        } finally {
+            stop(Operation.SORT, start, hops);
+        }
+    }
+
+    public void forEach(Consumer<? super E> action) {
+        if (!enabled) {
+            list.forEach(action);
+            return;
+        }
+        final long hops = NodeHops.current();
+        final long start = start(Operation.FOR_EACH);
+        try {
+            list.forEach(action);
+        } finally {
+            stop(Operation.FOR_EACH, start, hops);
+        }
+    }
+
+    public Object[] toArray() {
+        if (!enabled)
+            return list.toArray();
+        final long hops = NodeHops.current();
+        final long start = start(Operation.TO_ARRAY);
+        try {
+            return list.toArray();
+        } finally {
+            stop(Operation.TO_ARRAY, start, hops);
+        }
+    }
+
+    public <T> T[] toArray(T[] a) {
+        if (!enabled)
+            return list.toArray(a);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.TO_ARRAY);
+        try {
+            return list.toArray(a);
+        } finally {
+            stop(Operation.TO_ARRAY, start, hops);
+        }
+    }
+
+    public List<E> copyOfRange(int first, int last) throws IllegalArgumentException {
+        if (!enabled)
+            return list.copyOfRange(first, last);
+        final long hops = NodeHops.current();
+        final long start = start(Operation.COPY_OF_RANGE);
+        try {
+            return list.copyOfRange(first, last);
+        } finally {
+            stop(Operation.COPY_OF_RANGE, start, hops);
+        }
+    }
+
+    public PersistentList<E> snapshot() {
+        if (!enabled)
+            return list.snapshot();
+        final long hops = NodeHops.current();
+        final long start = start(Operation.SNAPSHOT);
+        try {
+            return list.snapshot();
+        } finally {
+            stop(Operation.SNAPSHOT, start, hops);
+        }
+    }
+
+    /**
+     * Measures only the creation of the iterator, which is where the linked Lists walk to the start index. Its
+     * later calls are not measured.
+     */
+    public ListIterator<E> iterator() {
+        if (!enabled)
+            return list.iterator();
+        final long hops = NodeHops.current();
+        final long start = start(Operation.ITERATOR);
+        try {
+            return list.iterator();
+        } finally {
+            stop(Operation.ITERATOR, start, hops);
+        }
+    }
+
+    /**
+     * @see #iterator()
+     */
+    public ListIterator<E> iterator(int start) {
+        if (!enabled)
+            return list.iterator(start);
+        final long hops = NodeHops.current();
+        final long t = start(Operation.ITERATOR);
+        try {
+            return list.iterator(start);
+        } finally {
+            stop(Operation.ITERATOR, t, hops);
+        }
+    }
+
+    /**
+     * @see #iterator()
+     */
+    public ListIterator<E> iterator(int start, int stop) {
+        if (!enabled)
+            return list.iterator(start, stop);
+        final long hops = NodeHops.current();
+        final long t = start(Operation.ITERATOR);
+        try {
+            return list.iterator(start, stop);
+        } finally {
+            stop(Operation.ITERATOR, t, hops);
+        }
+    }
+
+    public boolean equals(Object o) {
+        return o == this || list.equals(o);
+    }
+
+    public int hashCode() {
+        return list.hashCode();
+    }
+
+    public String toString() {
+        return list.toString();
+    }
+
+    /**
+     * Counts a call to op, and returns the time it starts at if it is one of those timed, {@link #UNTIMED} otherwise.
+     */
+    private long start(Operation op) {
+        final Meter m = meters[op.ordinal()];
+        if ((++m.calls & timingMask) != 0)
+            return UNTIMED;
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the latency of a call to op that started at start, and the node hops counted by the thread since it
+     * had counted hops.
+     */
+    private void stop(Operation op, long start, long hops) {
+        if (start != UNTIMED)
+            meters[op.ordinal()].latency.record(System.nanoTime() - start);
+        if (NodeHops.ENABLED)
+            meters[op.ordinal()].hops += NodeHops.current() - hops;
+    }
+
+    private final class MBean implements MeteredListMXBean {
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            MeteredList.this.enabled = enabled;
+        }
+
+        public int getSize() {
+            return list.size();
+        }
+
+        public Map<String, Long> getCalls() {
+            return byName(Stats::calls);
+        }
+
+        public Map<String, Long> getNodeHops() {
+            return byName(Stats::nodeHops);
+        }
+
+        public Map<String, Long> getMedianNanos() {
+            return byName(s -> s.latency().percentile(50));
+        }
+
+        public Map<String, Long> getP99Nanos() {
+            return byName(s -> s.latency().percentile(99));
+        }
+
+        public Map<String, Long> getMaxNanos() {
+            return byName(s -> s.latency().max());
+        }
+
+        public void reset() {
+            MeteredList.this.reset();
+        }
+
+        private Map<String, Long> byName(ToLongFunction<Stats> value) {
+            final Map<String, Long> map = new TreeMap<>();
+            for (Map.Entry<Operation, Stats> e : stats().entrySet())
+                map.put(e.getKey().name(), value.applyAsLong(e.getValue()));
+            return Collections.unmodifiableMap(map);
+        }
+    }
+}
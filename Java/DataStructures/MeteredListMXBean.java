@@ -0,0 +1,32 @@
+package DataStructures;
+
+import java.util.Map;
+
+/**
+ * The management interface of a {@link MeteredList} registered with {@link MeteredList#registerMBean(String)}. Every
+ * map goes from the name of a {@link MeteredList.Operation} to its value, and only holds the operations called at
+ * least once.
+ * @author Eduardo Costa de Souza
+ */
+public interface MeteredListMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    int getSize();
+
+    Map<String, Long> getCalls();
+
+    Map<String, Long> getNodeHops();
+
+    Map<String, Long> getMedianNanos();
+
+    Map<String, Long> getP99Nanos();
+
+    Map<String, Long> getMaxNanos();
+
+    /**
+     * Sets every counter and distribution back to zero.
+     */
+    void reset();
+}
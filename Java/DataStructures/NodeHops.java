@@ -0,0 +1,34 @@
+package DataStructures;
+
+/**
+ * Counts, per thread, the links followed by the linked lists to reach an index, so that {@link MeteredList} can tell
+ * how many of them each operation took.
+ * <p>
+ * Counting is off unless the JVM is started with {@code -DDataStructures.metrics.nodeHops=true}. The switch is a
+ * constant, so while it is off the JIT compiler removes the counting from the lists altogether.
+ * </p>
+ * @author Eduardo Costa de Souza
+ */
+final class NodeHops {
+    static final boolean ENABLED = Boolean.getBoolean("DataStructures.metrics.nodeHops");
+
+    private static final ThreadLocal<long[]> HOPS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private NodeHops() {
+    }
+
+    /**
+     * Adds hops to the count of the current thread.
+     */
+    static void add(int hops) {
+        if (ENABLED)
+            HOPS.get()[0] += hops;
+    }
+
+    /**
+     * @return The number of hops counted so far by the current thread, always 0 while counting is off.
+     */
+    static long current() {
+        return ENABLED ? HOPS.get()[0] : 0;
+    }
+}
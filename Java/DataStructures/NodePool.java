@@ -0,0 +1,110 @@
+package DataStructures;
+
+/**
+ * The recycling policy of the Nodes of a {@link DoublyLinkedList} or a {@link LinkedList}, and the counters of how it
+ * went.
+ * <p>
+ * A List made with a NodePool keeps the Nodes it unlinks in a free list of its own, holding at most
+ * {@link #capacity()} of them, and takes Nodes from there before allocating new ones. A queue that is pushed and
+ * popped at a steady size then runs without allocating Nodes at all. The counters are not synchronized, like the
+ * Lists that update them, so a NodePool shared by Lists used from several threads reports approximate numbers.
+ * </p>
+ * <p>Example: {@code new DoublyLinkedList<>(NodePool.bounded(4096))}</p>
+ * @author Eduardo Costa de Souza
+ * @see DoublyLinkedList#DoublyLinkedList(NodePool)
+ * @see LinkedList#LinkedList(NodePool)
+ */
+public final class NodePool {
+    private final int capacity;
+    private long hits;
+    private long misses;
+    private long recycled;
+    private long dropped;
+
+    private NodePool(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a NodePool keeping up to capacity free Nodes in each List made with it.
+     * @param capacity The maximum number of free Nodes kept by a List.
+     * @return The new NodePool.
+     * @throws IllegalArgumentException If capacity is negative.
+     */
+    public static NodePool bounded(int capacity) throws IllegalArgumentException {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        return new NodePool(capacity);
+    }
+
+    /**
+     * @return The maximum number of free Nodes kept by a List.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The number of Nodes taken from a free list instead of being allocated.
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * @return The number of Nodes allocated because the free list was empty.
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * @return The number of unlinked Nodes kept in a free list.
+     */
+    public long recycled() {
+        return recycled;
+    }
+
+    /**
+     * @return The number of unlinked Nodes left to the garbage collector because the free list was full.
+     */
+    public long dropped() {
+        return dropped;
+    }
+
+    /**
+     * @return The fraction of the Nodes linked that came from a free list, or 0 if none was linked.
+     */
+    public double hitRate() {
+        final long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Sets every counter back to zero.
+     */
+    public void resetStats() {
+        hits = misses = recycled = dropped = 0;
+    }
+
+    public String toString() {
+        return "NodePool[capacity=" + capacity + ", hits=" + hits + ", misses=" + misses + ", recycled=" + recycled
+                + ", dropped=" + dropped + "]";
+    }
+
+    void hit() {
+        hits++;
+    }
+
+    void miss() {
+        misses++;
+    }
+
+    void recycle() {
+        recycled++;
+    }
+
+    void drop() {
+        dropped++;
+    }
+}
@@ -0,0 +1,45 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * An implementation of a {@link List} that stores its items encoded by a {@link FixedWidthCodec} in direct memory
+ * chunks outside of the Java heap, so the garbage collector never has to trace them.
+ * <p>
+ * Items are boxed only when they are read. Once the List is {@link #close() closed} it drops its chunks and every
+ * other operation throws an {@link IllegalStateException}.
+ * </p>
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see FixedWidthCodec
+ * @see List
+ */
+public class OffHeapList<E> extends AbstractChunkedList<E> implements List<E>, AutoCloseable {
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    public OffHeapList(@NotNull FixedWidthCodec<E> codec) {
+        super(codec, CHUNK_BYTES);
+    }
+
+    public OffHeapList(@NotNull FixedWidthCodec<E> codec, @NotNull Iterable<? extends E> initList) {
+        this(codec);
+        for (E item : initList)
+            addLast(item);
+    }
+
+    ByteBuffer newChunk(int chunk) {
+        return ByteBuffer.allocateDirect(chunkBytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Drops every chunk of the List. Direct memory is handed back to the operating system as soon as the chunks are
+     * collected, and no item can be read from the List after this call.
+     */
+    public void close() {
+        chunks = null;
+        len = 0;
+    }
+}
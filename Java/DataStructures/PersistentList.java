@@ -0,0 +1,381 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable {@link List} implemented as a 32-way vector trie with a tail, in the fashion of Clojure's persistent
+ * vectors.
+ * <p>
+ * Every mutator of {@link List} throws an {@link UnsupportedOperationException}. New versions are made by
+ * {@link #appended(Object)}, {@link #updated(Object, int)} and {@link #removedLast()}, which copy only the
+ * O(log<sub>32</sub> n) nodes on the path to the changed item and share everything else with this version, so old
+ * versions stay valid and cost nothing to keep as stable views for readers.
+ * </p>
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see List#snapshot()
+ */
+public final class PersistentList<E> extends AbstractIndexedList<E> implements List<E> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentList<?> EMPTY = new PersistentList<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int len;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentList(int len, int shift, Object[] root, Object[] tail) {
+        this.len = len;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * @return The empty PersistentList.
+     * @param <E> The type of element to be stored in the List.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Builds a PersistentList with every item of items in O(n), filling the trie bottom up instead of appending
+     * one item at a time.
+     * @param items The items of the new List.
+     * @return The new List.
+     * @param <E> The type of element to be stored in the List.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(@NotNull Iterable<? extends E> items) {
+        if (items instanceof PersistentList<?> p)
+            return (PersistentList<E>) p;
+
+        final ArrayList<Object[]> leaves = new ArrayList<>();
+        Object[] leaf = new Object[WIDTH];
+        int inLeaf = 0;
+        int len = 0;
+        for (E item : items) {
+            if (inLeaf == WIDTH) {
+                leaves.addLast(leaf);
+                leaf = new Object[WIDTH];
+                inLeaf = 0;
+            }
+            leaf[inLeaf++] = item;
+            len++;
+        }
+        if (len == 0)
+            return empty();
+        final Object[] tail = inLeaf == WIDTH ? leaf : Arrays.copyOf(leaf, inLeaf);
+
+        ArrayList<Object[]> level = leaves;
+        int shift = BITS;
+        while (level.size() > WIDTH) {
+            final ArrayList<Object[]> parents = ArrayList.withCapacity(level.size() / WIDTH + 1);
+            for (int i = 0; i < level.size(); i += WIDTH)
+                parents.addLast(node(level, i));
+            level = parents;
+            shift += BITS;
+        }
+        return new PersistentList<>(len, shift, node(level, 0), tail);
+    }
+
+    /**
+     * Groups up to WIDTH nodes of level, starting at from, into a new node.
+     */
+    private static Object[] node(ArrayList<Object[]> level, int from) {
+        final Object[] node = new Object[WIDTH];
+        for (int i = 0; i < WIDTH && from + i < level.size(); i++)
+            node[i] = level.get(from + i);
+        return node;
+    }
+
+    public int size() {
+        return len;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * @return This List, which is already immutable.
+     */
+    public PersistentList<E> snapshot() {
+        return this;
+    }
+
+    /**
+     * Returns a new version of this List with item appended at its end.
+     * @param item The item to be appended.
+     * @return The new version.
+     */
+    public PersistentList<E> appended(E item) {
+        if (len - tailOffset() < WIDTH) {
+            final Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = item;
+            return new PersistentList<>(len + 1, shift, root, newTail);
+        }
+
+        // the tail is full, push it into the trie
+        Object[] newRoot;
+        int newShift = shift;
+        if ((len >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else
+            newRoot = pushTail(shift, root, tail);
+        return new PersistentList<>(len + 1, newShift, newRoot, new Object[]{item});
+    }
+
+    /**
+     * Returns a new version of this List with the item at index replaced by item.
+     * @param item The item to be stored at the specified index.
+     * @param index The index of the item to be replaced.
+     * @return The new version.
+     * @throws IndexOutOfBoundsException If the index is inaccessible.
+     */
+    public PersistentList<E> updated(E item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        if (index >= tailOffset()) {
+            final Object[] newTail = tail.clone();
+            newTail[index & MASK] = item;
+            return new PersistentList<>(len, shift, root, newTail);
+        }
+        return new PersistentList<>(len, shift, assoc(shift, root, index, item), tail);
+    }
+
+    /**
+     * Returns a new version of this List without its last item.
+     * @return The new version.
+     * @throws NoSuchElementException If the List is empty.
+     */
+    public PersistentList<E> removedLast() throws NoSuchElementException {
+        if (len == 0)
+            throw new NoSuchElementException();
+        if (len == 1)
+            return empty();
+        if (len - tailOffset() > 1)
+            return new PersistentList<>(len - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+
+        // the tail empties, the last leaf of the trie becomes the new tail
+        final Object[] newTail = leafFor(len - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null)
+            newRoot = EMPTY_NODE;
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentList<>(len - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns a new version of this List without the item at index. Unlike the other updates this one copies the
+     * items after index, so it costs O(n).
+     * @param index The index of the item to be removed.
+     * @return The new version.
+     * @throws IndexOutOfBoundsException If the index is inaccessible.
+     */
+    public PersistentList<E> removed(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        if (index == len - 1)
+            return removedLast();
+        final ArrayList<E> items = ArrayList.withCapacity(len - 1);
+        final ListIterator<E> it = iterator();
+        while (it.hasNext()) {
+            final E item = it.next();
+            if (it.index() != index)
+                items.addLast(item);
+        }
+        return copyOf(items);
+    }
+
+    public ListIterator<E> iterator() {
+        return new PersistentListIterator(0, 0);
+    }
+
+    public ListIterator<E> iterator(int start) {
+        verifyPositionIndex(start);
+        return new PersistentListIterator(start, 0);
+    }
+
+    public ListIterator<E> iterator(int start, int stop) {
+        verifyPositionIndex(start);
+        if (start > stop)
+            throw new InvalidParameterException(start + " is greater than " + stop);
+        return new PersistentListIterator(start, len - stop);
+    }
+
+    private class PersistentListIterator implements ListIterator<E> {
+        private Object[] leaf;
+        private int leafBase;
+        private int nextI;
+        private int lastRetI;
+        private boolean hasLastRet = false;
+        private final int stopDist;
+
+        PersistentListIterator(int i, int stopDist) {
+            lastRetI = nextI = i;
+            this.stopDist = stopDist;
+            leafBase = -WIDTH;
+        }
+
+        @SuppressWarnings("unchecked")
+        private E item(int i) {
+            if (i - leafBase >= WIDTH || i < leafBase) {
+                leaf = leafFor(i);
+                leafBase = i & ~MASK;
+            }
+            return (E) leaf[i & MASK];
+        }
+
+        public boolean hasNext() {
+            return nextI != len - stopDist;
+        }
+
+        public boolean hasPrevious() {
+            return nextI != 0;
+        }
+
+        public E next() throws NoSuchElementException {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            hasLastRet = true;
+            lastRetI = nextI++;
+            return item(lastRetI);
+        }
+
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            hasLastRet = true;
+            lastRetI = --nextI;
+            return item(lastRetI);
+        }
+
+        public int index() {
+            return lastRetI;
+        }
+
+        public int nextIndex() {
+            return nextI;
+        }
+
+        public int prevIndex() {
+            return nextI - 1;
+        }
+
+        public E get() throws IllegalStateException {
+            if (!hasLastRet)
+                throw new IllegalStateException();
+            return item(lastRetI);
+        }
+
+        public E set(E item) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public void add(E item) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * The index of the first item stored in the tail.
+     */
+    private int tailOffset() {
+        return len < WIDTH ? 0 : ((len - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Finds the leaf array holding the item at index.
+     */
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset())
+            return tail;
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS)
+            node = (Object[]) node[(index >>> level) & MASK];
+        return node;
+    }
+
+    /**
+     * Copies the path from parent to the position of the full tail, pushing the tail at its end.
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        final int sub = ((len - 1) >>> level) & MASK;
+        final Object[] ret = parent.clone();
+        final Object[] toInsert;
+        if (level == BITS)
+            toInsert = tailNode;
+        else {
+            final Object[] child = (Object[]) parent[sub];
+            toInsert = child != null ? pushTail(level - BITS, child, tailNode) : newPath(level - BITS, tailNode);
+        }
+        ret[sub] = toInsert;
+        return ret;
+    }
+
+    /**
+     * Creates a chain of single child nodes from level down to node.
+     */
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0)
+            return node;
+        final Object[] ret = new Object[WIDTH];
+        ret[0] = newPath(level - BITS, node);
+        return ret;
+    }
+
+    /**
+     * Copies the path from node to the item at index, replacing it by item.
+     */
+    private static Object[] assoc(int level, Object[] node, int index, Object item) {
+        final Object[] ret = node.clone();
+        if (level == 0)
+            ret[index & MASK] = item;
+        else {
+            final int sub = (index >>> level) & MASK;
+            ret[sub] = assoc(level - BITS, (Object[]) node[sub], index, item);
+        }
+        return ret;
+    }
+
+    /**
+     * Copies the path from node to the last leaf of the trie without it, returning null if node becomes empty.
+     */
+    private Object[] popTail(int level, Object[] node) {
+        final int sub = ((len - 2) >>> level) & MASK;
+        if (level > BITS) {
+            final Object[] newChild = popTail(level - BITS, (Object[]) node[sub]);
+            if (newChild == null && sub == 0)
+                return null;
+            final Object[] ret = node.clone();
+            ret[sub] = newChild;
+            return ret;
+        }
+        if (sub == 0)
+            return null;
+        final Object[] ret = node.clone();
+        ret[sub] = null;
+        return ret;
+    }
+}
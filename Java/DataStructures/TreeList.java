@@ -0,0 +1,496 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An implementation of a {@link List} using an AVL tree ordered by position, where every Node knows the size of its
+ * subtree.
+ * <p>
+ * The Node at an index is found descending from the root and comparing the index to the size of the left subtree,
+ * so {@link #get(int)}, {@link #set(Object, int)}, {@link #add(Object, int)} and {@link #remove(int)} all run in
+ * O(log n) in the worst case, for any position. Iterators move between neighbouring Nodes through parent links in
+ * amortized O(1). A List made from a {@link Collection} is built already balanced in O(n).
+ * </p>
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see List
+ * @see ListIterator
+ */
+public class TreeList<E> extends AbstractList<E> implements List<E> {
+    private Node<E> root;
+
+    public TreeList() {
+        root = null;
+    }
+
+    public TreeList(@NotNull Collection<? extends E> initList) {
+        this();
+        final Object[] items = initList.toArray();
+        root = build(items, 0, items.length, null);
+    }
+
+    @SafeVarargs
+    public TreeList(E ... initList) {
+        this(Arrays.asList(initList));
+    }
+
+    public void addFirst(E item) {
+        link(item, 0);
+    }
+
+    public void add(E item, int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+        link(item, index);
+    }
+
+    public void addLast(E item) {
+        link(item, size());
+    }
+
+    public E removeFirst() throws NoSuchElementException {
+        if (root == null)
+            throw new NoSuchElementException();
+        return unlink(0);
+    }
+
+    public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+        verifyElementIndex(index);
+        return unlink(index);
+    }
+
+    public E removeLast() throws NoSuchElementException {
+        if (root == null)
+            throw new NoSuchElementException();
+        return unlink(root.size - 1);
+    }
+
+    public E getFirst() throws NoSuchElementException {
+        if (root == null)
+            throw new NoSuchElementException();
+        return leftmost(root).item;
+    }
+
+    public E get(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return node(index).item;
+    }
+
+    public E getLast() throws NoSuchElementException {
+        if (root == null)
+            throw new NoSuchElementException();
+        return rightmost(root).item;
+    }
+
+    public E setFirst(E item) throws NoSuchElementException {
+        if (root == null)
+            throw new NoSuchElementException();
+        return setNode(item, leftmost(root));
+    }
+
+    public E set(E item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        return setNode(item, node(index));
+    }
+
+    public E setLast(E item) throws NoSuchElementException {
+        if (root == null)
+            throw new NoSuchElementException();
+        return setNode(item, rightmost(root));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean contains(Object o) {
+        if (root == null)
+            return false;
+        for (Node<E> n = leftmost(root); n != null; n = successor(n))
+            if (Objects.equals(o, n.item))
+                return true;
+        return false;
+    }
+
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        if (root == null)
+            return;
+        for (Node<E> n = leftmost(root); n != null; n = successor(n))
+            action.accept(n.item);
+    }
+
+    /**
+     * Removes every item that satisfies filter in O(n), rebuilding the tree from the kept items if any was removed.
+     */
+    public boolean removeIf(@NotNull Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        final Object[] items = toArray();
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < items.length; i++) {
+                @SuppressWarnings("unchecked")
+                final E item = (E) items[i];
+                if (!filter.test(item))
+                    items[kept++] = item;
+            }
+        } finally {
+            // if filter threw, the items that were not tested yet are kept
+            System.arraycopy(items, i, items, kept, items.length - i);
+            kept += items.length - i;
+            if (kept != items.length)
+                root = build(items, 0, kept, null);
+        }
+        return kept != items.length;
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    public Object[] toArray() {
+        final Object[] arr = new Object[size()];
+        int i = 0;
+        if (root != null)
+            for (Node<E> n = leftmost(root); n != null; n = successor(n))
+                arr[i++] = n.item;
+        return arr;
+    }
+
+    public TreeList<E> copyOfRange(int first, int last) throws IllegalArgumentException {
+        verifyRange(first, last);
+        final Object[] items = new Object[last - first];
+        final ListIterator<E> it = iterator(first, last);
+        while (it.hasNext())
+            items[it.nextIndex() - first] = it.next();
+        final TreeList<E> copy = new TreeList<>();
+        copy.root = build(items, 0, items.length, null);
+        return copy;
+    }
+
+    public ListIterator<E> iterator() {
+        return new TreeListIterator(0, 0);
+    }
+
+    public ListIterator<E> iterator(int start) {
+        verifyPositionIndex(start);
+        return new TreeListIterator(start, 0);
+    }
+
+    public ListIterator<E> iterator(int start, int stop) {
+        verifyPositionIndex(start);
+        if (start > stop)
+            throw new InvalidParameterException(start + " is greater than " + stop);
+        return new TreeListIterator(start, size() - stop);
+    }
+
+    private class TreeListIterator implements ListIterator<E> {
+        private Node<E> next;
+        private Node<E> lastRet = null;
+        private int nextI;
+        private int lastRetI;
+        private final int stopDist;
+
+        TreeListIterator(int i, int stopDist) {
+            lastRetI = nextI = i;
+            this.stopDist = stopDist;
+            next = i == size() ? null : node(i);
+        }
+
+        public boolean hasNext() {
+            return nextI != size() - stopDist;
+        }
+
+        public boolean hasPrevious() {
+            return nextI != 0;
+        }
+
+        public E next() throws NoSuchElementException {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            lastRet = next;
+            next = successor(next);
+            lastRetI = nextI;
+            nextI++;
+            return lastRet.item;
+        }
+
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            lastRet = next = next != null ? predecessor(next) : rightmost(root);
+            lastRetI = --nextI;
+            return lastRet.item;
+        }
+
+        public void remove() throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            if (lastRetI < nextI)
+                nextI--;
+            unlink(lastRetI);
+            // unlinking may move items between Nodes, so the next Node is looked up again
+            next = nextI == size() ? null : node(nextI);
+            lastRet = null;
+        }
+
+        public void add(E item) throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            link(item, nextI);
+            nextI++;
+            lastRet = null;
+        }
+
+        public int index() {
+            return lastRetI;
+        }
+
+        public int nextIndex() {
+            return nextI;
+        }
+
+        public int prevIndex() {
+            return nextI - 1;
+        }
+
+        public E get() throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            return lastRet.item;
+        }
+
+        public E set(E item) throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            return setNode(item, lastRet);
+        }
+    }
+
+    private static class Node<E> {
+        E item;
+        Node<E> left, right, parent;
+        int height;
+        int size;
+
+        Node(E item) {
+            this.item = item;
+            height = 1;
+            size = 1;
+        }
+    }
+
+    private static int size(Node<?> n) {
+        return n == null ? 0 : n.size;
+    }
+
+    private static int height(Node<?> n) {
+        return n == null ? 0 : n.height;
+    }
+
+    /**
+     * Builds a perfectly balanced tree holding items from lo to hi, in order.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] items, int lo, int hi, Node<E> parent) {
+        if (lo >= hi)
+            return null;
+        final int mid = (lo + hi) >>> 1;
+        final Node<E> n = new Node<>((E) items[mid]);
+        n.parent = parent;
+        n.left = build(items, lo, mid, n);
+        n.right = build(items, mid + 1, hi, n);
+        update(n);
+        return n;
+    }
+
+    /**
+     * Finds the Node at index descending from the root.
+     */
+    private Node<E> node(int index) {
+        // assert isElementIndex(index);
+        Node<E> n = root;
+        while (true) {
+            final int ls = size(n.left);
+            if (index < ls)
+                n = n.left;
+            else if (index > ls) {
+                index -= ls + 1;
+                n = n.right;
+            } else
+                return n;
+        }
+    }
+
+    private static <E> Node<E> leftmost(Node<E> n) {
+        while (n.left != null)
+            n = n.left;
+        return n;
+    }
+
+    private static <E> Node<E> rightmost(Node<E> n) {
+        while (n.right != null)
+            n = n.right;
+        return n;
+    }
+
+    /**
+     * The Node right after n in the List, or null if n is the last one.
+     */
+    private static <E> Node<E> successor(Node<E> n) {
+        if (n.right != null)
+            return leftmost(n.right);
+        Node<E> p = n.parent;
+        while (p != null && n == p.right) {
+            n = p;
+            p = p.parent;
+        }
+        return p;
+    }
+
+    /**
+     * The Node right before n in the List, or null if n is the first one.
+     */
+    private static <E> Node<E> predecessor(Node<E> n) {
+        if (n.left != null)
+            return rightmost(n.left);
+        Node<E> p = n.parent;
+        while (p != null && n == p.left) {
+            n = p;
+            p = p.parent;
+        }
+        return p;
+    }
+
+    /**
+     * Links a Node containing item so that it ends up at index.
+     */
+    private void link(E item, int index) {
+        root = insert(root, index, new Node<>(item));
+        root.parent = null;
+    }
+
+    private static <E> Node<E> insert(Node<E> n, int index, Node<E> newNode) {
+        if (n == null)
+            return newNode;
+        final int ls = size(n.left);
+        if (index <= ls) {
+            n.left = insert(n.left, index, newNode);
+            n.left.parent = n;
+        } else {
+            n.right = insert(n.right, index - ls - 1, newNode);
+            n.right.parent = n;
+        }
+        return balance(n);
+    }
+
+    /**
+     * Unlinks the Node at index and returns its item.
+     */
+    private E unlink(int index) {
+        // assert isElementIndex(index);
+        final Node<E> n = node(index);
+        final E remE = n.item;
+        root = delete(root, index);
+        if (root != null)
+            root.parent = null;
+        return remE;
+    }
+
+    /**
+     * Deletes the item at index from the subtree of n and returns the new root of the subtree. A Node with two
+     * children takes the item of its successor, whose Node is the one deleted.
+     */
+    private static <E> Node<E> delete(Node<E> n, int index) {
+        final int ls = size(n.left);
+        if (index < ls) {
+            n.left = delete(n.left, index);
+            if (n.left != null)
+                n.left.parent = n;
+        } else if (index > ls) {
+            n.right = delete(n.right, index - ls - 1);
+            if (n.right != null)
+                n.right.parent = n;
+        } else if (n.left == null || n.right == null) {
+            final Node<E> child = n.left != null ? n.left : n.right;
+            n.item = null;
+            n.left = n.right = n.parent = null;
+            return child;
+        } else {
+            n.item = leftmost(n.right).item;
+            n.right = delete(n.right, 0);
+            if (n.right != null)
+                n.right.parent = n;
+        }
+        return balance(n);
+    }
+
+    private static void update(Node<?> n) {
+        n.height = 1 + Math.max(height(n.left), height(n.right));
+        n.size = 1 + size(n.left) + size(n.right);
+    }
+
+    /**
+     * Restores the AVL invariant at n, whose subtrees are balanced and differ in height by at most two, and returns
+     * the new root of the subtree.
+     */
+    private static <E> Node<E> balance(Node<E> n) {
+        update(n);
+        final int bf = height(n.left) - height(n.right);
+        if (bf > 1) {
+            if (height(n.left.left) < height(n.left.right))
+                n.left = rotateLeft(n.left);
+            return rotateRight(n);
+        }
+        if (bf < -1) {
+            if (height(n.right.right) < height(n.right.left))
+                n.right = rotateRight(n.right);
+            return rotateLeft(n);
+        }
+        return n;
+    }
+
+    private static <E> Node<E> rotateRight(Node<E> y) {
+        final Node<E> x = y.left;
+        y.left = x.right;
+        if (x.right != null)
+            x.right.parent = y;
+        x.right = y;
+        x.parent = y.parent;
+        y.parent = x;
+        update(y);
+        update(x);
+        return x;
+    }
+
+    private static <E> Node<E> rotateLeft(Node<E> y) {
+        final Node<E> x = y.right;
+        y.right = x.left;
+        if (x.left != null)
+            x.left.parent = y;
+        x.left = y;
+        x.parent = y.parent;
+        y.parent = x;
+        update(y);
+        update(x);
+        return x;
+    }
+
+    /**
+     * Sets the item of a node to the given item.
+     */
+    private E setNode(E item, Node<E> node) {
+        // assert node != null
+        final E oldItem = node.item;
+        node.item = item;
+        return oldItem;
+    }
+}
@@ -0,0 +1,512 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * An implementation of a {@link List} using double chain Nodes that each hold a small array of items.
+ * <p>
+ * Nodes are split in half when an item is inserted into a full Node and merged with a neighbour when they become
+ * less than a quarter full, so sequential scans touch contiguous memory and the per item overhead is a fraction of
+ * the one of {@link DoublyLinkedList}.
+ * </p>
+ * @param <E> The type of element to be stored in the List.
+ * @author Eduardo Costa de Souza
+ * @see List
+ * @see ListIterator
+ */
+public class UnrolledLinkedList<E> extends AbstractLinkedList<E> implements List<E> {
+    private static final int NODE_CAPACITY = 32;
+    private static final int MERGE_THRESHOLD = NODE_CAPACITY / 4;
+
+    private Node<E> first;
+    private Node<E> last;
+    private int len;
+
+    /**
+     * The Node and offset left by the last call to {@link #linkLast(Object)}, {@link #linkItem(Object, Node, int)} or
+     * {@link #unlinkItem(Node, int)}. A {@code null} Node stands for the end of the List. Only structural changes
+     * write them, so reads stay free of side effects.
+     */
+    private Node<E> posNode;
+    private int posOff;
+
+    public UnrolledLinkedList() {
+        len = 0;
+        first = null;
+        last = null;
+    }
+
+    public UnrolledLinkedList(@NotNull Collection<? extends E> initList) {
+        this();
+        for (E item : initList)
+            addLast(item);
+    }
+
+    @SafeVarargs
+    public UnrolledLinkedList(E ... initList) {
+        this(Arrays.asList(initList));
+    }
+
+    public void addFirst(E item) {
+        linkFirst(item);
+    }
+
+    public void add(E item, int index) throws IndexOutOfBoundsException {
+        verifyPositionIndex(index);
+
+        if (index != len) {
+            final Position<E> p = locate(index);
+            linkItem(item, p.node, p.off);
+        } else
+            linkLast(item);
+    }
+
+    public void addLast(E item) {
+        linkLast(item);
+    }
+
+    public E removeFirst() throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        return unlinkItem(first, 0);
+    }
+
+    public E remove(int index) throws IndexOutOfBoundsException, NoSuchElementException {
+        verifyElementIndex(index);
+        final Position<E> p = locate(index);
+        return unlinkItem(p.node, p.off);
+    }
+
+    public E removeLast() throws NoSuchElementException {
+        if (last == null)
+            throw new NoSuchElementException();
+        return unlinkItem(last, last.count - 1);
+    }
+
+    public E getFirst() throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        return first.item(0);
+    }
+
+    public E get(int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        final Position<E> p = locate(index);
+        return p.node.item(p.off);
+    }
+
+    public E getLast() throws NoSuchElementException {
+        if (last == null)
+            throw new NoSuchElementException();
+        return last.item(last.count - 1);
+    }
+
+    public E setFirst(E item) throws NoSuchElementException {
+        if (first == null)
+            throw new NoSuchElementException();
+        return first.set(item, 0);
+    }
+
+    public E set(E item, int index) throws IndexOutOfBoundsException {
+        verifyElementIndex(index);
+        final Position<E> p = locate(index);
+        return p.node.set(item, p.off);
+    }
+
+    public E setLast(E item) throws NoSuchElementException {
+        if (last == null)
+            throw new NoSuchElementException();
+        return last.set(item, last.count - 1);
+    }
+
+    public int size() {
+        return len;
+    }
+
+    public boolean contains(Object o) {
+        for (Node<E> n = first; n != null; n = n.next)
+            for (int i = 0; i < n.count; i++)
+                if (Objects.equals(o, n.items[i]))
+                    return true;
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Node<E> n = first; n != null; n = n.next)
+            for (int i = 0; i < n.count; i++)
+                action.accept((E) n.items[i]);
+    }
+
+    public Object[] toArray() {
+        Object[] arr = new Object[len];
+        int i = 0;
+        for (Node<E> n = first; n != null; n = n.next) {
+            System.arraycopy(n.items, 0, arr, i, n.count);
+            i += n.count;
+        }
+        return arr;
+    }
+
+    public void clear() {
+        for (Node<E> n = first; n != null; ) {
+            Node<E> next = n.next;
+            Arrays.fill(n.items, 0, n.count, null);
+            n.next = n.prev = null;
+            n = next;
+        }
+        first = last = posNode = null;
+        len = 0;
+    }
+
+    public UnrolledLinkedList<E> copyOfRange(int first, int last) throws IllegalArgumentException {
+        return (UnrolledLinkedList<E>) subListOfList(first, last, new UnrolledLinkedList<>());
+    }
+
+    public ListIterator<E> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    public ListIterator<E> iterator(int start) {
+        verifyPositionIndex(start);
+        return new UnrolledLinkedListIterator(start);
+    }
+
+    public ListIterator<E> iterator(int start, int stop) {
+        verifyPositionIndex(start);
+        if (start > stop)
+            throw new InvalidParameterException(start + " is greater than " + stop);
+        return new UnrolledLinkedListIterator(start, len - stop);
+    }
+
+    private class UnrolledLinkedListIterator implements ListIterator<E> {
+        private Node<E> next;
+        private int nextOff;
+        private Node<E> lastRet = null;
+        private int lastRetOff;
+        private int nextI;
+        private int lastRetI;
+        private final int stopDist;
+
+        UnrolledLinkedListIterator() {
+            this(0);
+        }
+
+        UnrolledLinkedListIterator(int i) {
+            this(i, 0);
+        }
+
+        UnrolledLinkedListIterator(int i, int stopDist) {
+            lastRetI = nextI = i;
+            this.stopDist = stopDist;
+            if (i != len) {
+                final Position<E> p = locate(i);
+                next = p.node;
+                nextOff = p.off;
+            }
+        }
+
+        public boolean hasNext() {
+            return nextI != len - stopDist;
+        }
+
+        public boolean hasPrevious() {
+            return nextI != 0;
+        }
+
+        public E next() throws NoSuchElementException {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            lastRet = next;
+            lastRetOff = nextOff;
+            if (++nextOff == next.count) {
+                next = next.next;
+                nextOff = 0;
+            }
+            lastRetI = nextI;
+            nextI++;
+            return lastRet.item(lastRetOff);
+        }
+
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            if (next == null) {
+                next = last;
+                nextOff = last.count - 1;
+            } else if (nextOff == 0) {
+                next = next.prev;
+                nextOff = next.count - 1;
+            } else
+                nextOff--;
+            lastRet = next;
+            lastRetOff = nextOff;
+            lastRetI = --nextI;
+            return lastRet.item(lastRetOff);
+        }
+
+        public void remove() throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            unlinkItem(lastRet, lastRetOff);
+            next = posNode;
+            nextOff = posOff;
+            nextI = lastRetI;
+            lastRet = null;
+        }
+
+        public void add(E item) throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            if (next != null) {
+                linkItem(item, next, nextOff);
+                next = posNode;
+                nextOff = posOff + 1;
+                if (nextOff == next.count) {
+                    next = next.next;
+                    nextOff = 0;
+                }
+            } else
+                linkLast(item);
+            nextI++;
+            lastRet = null;
+        }
+
+        public int index() {
+            return lastRetI;
+        }
+
+        public int nextIndex() {
+            return nextI;
+        }
+
+        public int prevIndex() {
+            return nextI - 1;
+        }
+
+        public E get() throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            return lastRet.item(lastRetOff);
+        }
+
+        public E set(E item) throws IllegalStateException {
+            if (lastRet == null)
+                throw new IllegalStateException();
+            return lastRet.set(item, lastRetOff);
+        }
+    }
+
+    private static class Node<E> {
+        final Object[] items = new Object[NODE_CAPACITY];
+        int count;
+        Node<E> next, prev;
+
+        @SuppressWarnings("unchecked")
+        E item(int off) {
+            return (E) items[off];
+        }
+
+        E set(E item, int off) {
+            final E oldItem = item(off);
+            items[off] = item;
+            return oldItem;
+        }
+    }
+
+    private static final class Position<E> {
+        final Node<E> node;
+        final int off;
+
+        Position(Node<E> node, int off) {
+            this.node = node;
+            this.off = off;
+        }
+    }
+
+    /**
+     * Finds the Node holding the item at index and its offset inside the Node.
+     */
+    private Position<E> locate(int index) {
+        // assert !isNotElementIndex(index);
+
+        Node<E> n;
+        int hops = 0;
+        if (index < len >> 1) {
+            n = first;
+            while (index >= n.count) {
+                index -= n.count;
+                n = n.next;
+                hops++;
+            }
+        } else {
+            n = last;
+            int start = len - n.count;
+            while (index < start) {
+                n = n.prev;
+                start -= n.count;
+                hops++;
+            }
+            index -= start;
+        }
+        NodeHops.add(hops);
+        return new Position<>(n, index);
+    }
+
+    /**
+     * Link an item containing e to the first position of the List.
+     */
+    private void linkFirst(E e) {
+        if (first == null || first.count == NODE_CAPACITY)
+            linkNodeBefore(new Node<>(), first);
+        linkItem(e, first, 0);
+    }
+
+    /**
+     * Link an item containing e to the last position of the List.
+     */
+    private void linkLast(E e) {
+        if (last == null || last.count == NODE_CAPACITY)
+            linkNodeAfter(new Node<>(), last);
+        last.items[last.count++] = e;
+        len++;
+        posNode = last;
+        posOff = last.count - 1;
+    }
+
+    /**
+     * Inserts e at the offset off of the node n, splitting n in half if it is full. The position of e is stored at
+     * posNode and posOff.
+     */
+    private void linkItem(E e, Node<E> n, int off) {
+        // assert n != null && off <= n.count
+        if (n.count == NODE_CAPACITY) {
+            final Node<E> split = new Node<>();
+            final int half = NODE_CAPACITY >> 1;
+            System.arraycopy(n.items, half, split.items, 0, NODE_CAPACITY - half);
+            Arrays.fill(n.items, half, NODE_CAPACITY, null);
+            split.count = NODE_CAPACITY - half;
+            n.count = half;
+            linkNodeAfter(split, n);
+            if (off > half) {
+                n = split;
+                off -= half;
+            }
+        }
+        System.arraycopy(n.items, off, n.items, off + 1, n.count - off);
+        n.items[off] = e;
+        n.count++;
+        len++;
+        posNode = n;
+        posOff = off;
+    }
+
+    /**
+     * Removes the item at the offset off of the node n and returns it, merging n with a neighbour if it became too
+     * sparse. The position of the item that followed the removed one is stored at posNode and posOff.
+     */
+    private E unlinkItem(Node<E> n, int off) {
+        // assert n != null && off < n.count
+        final E remE = n.item(off);
+        System.arraycopy(n.items, off + 1, n.items, off, n.count - off - 1);
+        n.items[--n.count] = null;
+        len--;
+
+        if (n.count == 0) {
+            final Node<E> next = n.next;
+            unlinkNode(n);
+            n = next;
+            off = 0;
+        } else if (n.count < MERGE_THRESHOLD) {
+            if (n.next != null && n.count + n.next.count <= NODE_CAPACITY)
+                mergeNext(n);
+            else if (n.prev != null && n.prev.count + n.count <= NODE_CAPACITY) {
+                off += n.prev.count;
+                n = n.prev;
+                mergeNext(n);
+            }
+        }
+
+        if (n != null && off == n.count) {
+            n = n.next;
+            off = 0;
+        }
+        posNode = n;
+        posOff = off;
+        return remE;
+    }
+
+    /**
+     * Moves every item of the node after n to the end of n and unlinks the emptied node.
+     */
+    private void mergeNext(Node<E> n) {
+        // assert n.next != null && n.count + n.next.count <= NODE_CAPACITY
+        final Node<E> next = n.next;
+        System.arraycopy(next.items, 0, n.items, n.count, next.count);
+        n.count += next.count;
+        Arrays.fill(next.items, 0, next.count, null);
+        next.count = 0;
+        unlinkNode(next);
+    }
+
+    /**
+     * Links the empty node n after prev, or as the only node of the List if prev is null.
+     */
+    private void linkNodeAfter(Node<E> n, Node<E> prev) {
+        if (prev == null) {
+            first = last = n;
+            return;
+        }
+        final Node<E> next = prev.next;
+        n.prev = prev;
+        n.next = next;
+        prev.next = n;
+        if (next != null)
+            next.prev = n;
+        else
+            last = n;
+    }
+
+    /**
+     * Links the empty node n before next, or as the only node of the List if next is null.
+     */
+    private void linkNodeBefore(Node<E> n, Node<E> next) {
+        if (next == null) {
+            first = last = n;
+            return;
+        }
+        final Node<E> prev = next.prev;
+        n.next = next;
+        n.prev = prev;
+        next.prev = n;
+        if (prev != null)
+            prev.next = n;
+        else
+            first = n;
+    }
+
+    /**
+     * Unlinks the node passed as parameter from the chain of nodes.
+     */
+    private void unlinkNode(Node<E> n) {
+        final Node<E> prev = n.prev;
+        final Node<E> next = n.next;
+        if (next != null)
+            next.prev = prev;
+        else
+            last = prev;
+        if (prev != null)
+            prev.next = next;
+        else
+            first = next;
+        n.next = n.prev = null;
+    }
+}
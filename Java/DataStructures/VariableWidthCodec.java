@@ -0,0 +1,168 @@
+package DataStructures;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes items of type E to, and decodes them from, a number of bytes that may change from item to item, so Lists
+ * can be streamed by a {@link ListCodec}.
+ * <p>
+ * Unlike {@link FixedWidthCodec}, implementations use the relative get and put methods of {@link ByteBuffer}:
+ * {@link #write(Object, ByteBuffer)} puts the item at the position of the buffer and {@link #read(ByteBuffer)} gets
+ * exactly the bytes written for it, both leaving the position right after the item.
+ * </p>
+ * @param <E> The type of the encoded items.
+ * @author Eduardo Costa de Souza
+ * @see ListCodec
+ * @see FixedWidthCodec
+ */
+public interface VariableWidthCodec<E> {
+    /**
+     * @param item The item to be written.
+     * @return An upper bound of the amount of bytes {@link #write(Object, ByteBuffer)} puts for item.
+     */
+    int maxWidth(E item);
+
+    /**
+     * Writes item at the position of buffer, which has at least {@link #maxWidth(Object)} bytes remaining.
+     * @param item The item to be written.
+     * @param buffer The buffer to write to.
+     */
+    void write(E item, ByteBuffer buffer);
+
+    /**
+     * Reads the item at the position of buffer.
+     * @param buffer The buffer to read from.
+     * @return The read item.
+     * @throws BufferUnderflowException If buffer ends before the item does.
+     * @throws IllegalArgumentException If the bytes are not a valid encoding.
+     */
+    E read(ByteBuffer buffer) throws BufferUnderflowException, IllegalArgumentException;
+
+    /**
+     * Writes Integers as ZigZag varints, taking from 1 byte for numbers close to 0 up to 5 bytes.
+     */
+    VariableWidthCodec<Integer> VARINT = new VariableWidthCodec<>() {
+        public int maxWidth(Integer item) {
+            return 5;
+        }
+
+        public void write(Integer item, ByteBuffer buffer) {
+            writeVarLong(buffer, ((item << 1) ^ (item >> 31)) & 0xFFFFFFFFL);
+        }
+
+        public Integer read(ByteBuffer buffer) {
+            final int n = (int) readVarLong(buffer);
+            return (n >>> 1) ^ -(n & 1);
+        }
+    };
+
+    /**
+     * Writes Longs as ZigZag varints, taking from 1 byte for numbers close to 0 up to 10 bytes.
+     */
+    VariableWidthCodec<Long> VARLONG = new VariableWidthCodec<>() {
+        public int maxWidth(Long item) {
+            return 10;
+        }
+
+        public void write(Long item, ByteBuffer buffer) {
+            writeVarLong(buffer, (item << 1) ^ (item >> 63));
+        }
+
+        public Long read(ByteBuffer buffer) {
+            final long n = readVarLong(buffer);
+            return (n >>> 1) ^ -(n & 1);
+        }
+    };
+
+    /**
+     * Writes Strings as a varint with their length in UTF-8 bytes plus one followed by those bytes, and
+     * {@code null} as a varint 0.
+     */
+    VariableWidthCodec<String> UTF8 = new VariableWidthCodec<>() {
+        public int maxWidth(String item) {
+            return item == null ? 1 : 5 + item.length() * 3;
+        }
+
+        public void write(String item, ByteBuffer buffer) {
+            if (item == null) {
+                buffer.put((byte) 0);
+                return;
+            }
+            final byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(buffer, bytes.length + 1L);
+            buffer.put(bytes);
+        }
+
+        public String read(ByteBuffer buffer) {
+            final long len = readVarLong(buffer) - 1;
+            if (len < 0)
+                return null;
+            if (len > buffer.remaining())
+                throw new BufferUnderflowException();
+            if (buffer.hasArray()) {
+                final String s = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), (int) len,
+                        StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + (int) len);
+                return s;
+            }
+            final byte[] bytes = new byte[(int) len];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * @param codec The codec of fixed width.
+     * @return A codec writing items as codec does, always taking {@link FixedWidthCodec#width()} bytes.
+     */
+    static <E> VariableWidthCodec<E> of(@NotNull FixedWidthCodec<E> codec) {
+        final int width = codec.width();
+        return new VariableWidthCodec<>() {
+            public int maxWidth(E item) {
+                return width;
+            }
+
+            public void write(E item, ByteBuffer buffer) {
+                codec.write(item, buffer, buffer.position());
+                buffer.position(buffer.position() + width);
+            }
+
+            public E read(ByteBuffer buffer) {
+                if (buffer.remaining() < width)
+                    throw new BufferUnderflowException();
+                final E item = codec.read(buffer, buffer.position());
+                buffer.position(buffer.position() + width);
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Writes the unsigned n in groups of 7 bits, lowest first, with the high bit of each byte set if more follow.
+     */
+    private static void writeVarLong(ByteBuffer buffer, long n) {
+        while ((n & ~0x7FL) != 0) {
+            buffer.put((byte) (n | 0x80));
+            n >>>= 7;
+        }
+        buffer.put((byte) n);
+    }
+
+    /**
+     * Reads an unsigned number written by {@link #writeVarLong(ByteBuffer, long)}.
+     */
+    private static long readVarLong(ByteBuffer buffer) {
+        long n = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final byte b = buffer.get();
+            n |= (long) (b & 0x7F) << shift;
+            if (b >= 0)
+                return n;
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -0,0 +1,27 @@
+package DataStructures.benchmarks;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the contention benchmarks once for each thread count from 1 to 64, doubling it each time. Every other JMH
+ * command line option is accepted.
+ * <p>Example: {@code java -cp target/benchmarks.jar DataStructures.benchmarks.ContentionBenchmarks}</p>
+ * @author Eduardo Costa de Souza
+ */
+public class ContentionBenchmarks {
+    private static final int MAX_THREADS = 64;
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        for (int threads = 1; threads <= MAX_THREADS; threads <<= 1)
+            new Runner(new OptionsBuilder()
+                    .parent(cmd)
+                    .include(QueueContentionBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run();
+    }
+}
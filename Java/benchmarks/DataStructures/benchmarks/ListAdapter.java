@@ -0,0 +1,283 @@
+package DataStructures.benchmarks;
+
+import DataStructures.ArrayDequeList;
+import DataStructures.ArrayList;
+import DataStructures.DoublyLinkedList;
+import DataStructures.IndexedSkipList;
+import DataStructures.LinkedHashList;
+import DataStructures.LinkedList;
+import DataStructures.List;
+import DataStructures.ListIterator;
+import DataStructures.NodePool;
+import DataStructures.TreeList;
+import DataStructures.UnrolledLinkedList;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * A common face for {@link List} and {@link java.util.List} so that the same benchmark body can run against the
+ * {@code DataStructures} lists and the JDK baselines.
+ * @author Eduardo Costa de Souza
+ */
+interface ListAdapter {
+    void addFirst(Integer item);
+
+    void add(Integer item, int index);
+
+    void addLast(Integer item);
+
+    Integer removeFirst();
+
+    Integer remove(int index);
+
+    Integer removeLast();
+
+    Integer get(int index);
+
+    Integer set(Integer item, int index);
+
+    int size();
+
+    /**
+     * Consumes every item from {@code start} (inclusive) to {@code stop} (exclusive) through an iterator.
+     */
+    void iterate(int start, int stop, Blackhole bh);
+
+    boolean contains(Object o);
+
+    /**
+     * Sums every item through a parallel stream.
+     */
+    long parallelSum();
+
+    boolean removeAll(Collection<?> c);
+
+    boolean retainAll(Collection<?> c);
+
+    Object[] toArray();
+
+    String asString();
+
+    int hash();
+
+    Object subList(int first, int last);
+
+    Object copyOfRange(int first, int last);
+
+    void sort(Comparator<? super Integer> c);
+
+    /**
+     * Creates an adapter over a new, empty list of the kind named by {@code impl}.
+     */
+    static ListAdapter create(String impl) {
+        return switch (impl) {
+            case "LinkedList" -> new OfList(new LinkedList<>());
+            case "DoublyLinkedList" -> new OfList(new DoublyLinkedList<>());
+            case "PooledLinkedList" -> new OfList(new LinkedList<>(NodePool.bounded(4096)));
+            case "PooledDoublyLinkedList" -> new OfList(new DoublyLinkedList<>(NodePool.bounded(4096)));
+            case "ArrayList" -> new OfList(new ArrayList<>());
+            case "UnrolledLinkedList" -> new OfList(new UnrolledLinkedList<>());
+            case "IndexedSkipList" -> new OfList(new IndexedSkipList<>());
+            case "ArrayDequeList" -> new OfList(new ArrayDequeList<>());
+            case "TreeList" -> new OfList(new TreeList<>());
+            case "LinkedHashList" -> new OfList(new LinkedHashList<>());
+            case "java.util.LinkedList" -> new OfJavaList(new java.util.LinkedList<>());
+            case "java.util.ArrayList" -> new OfJavaList(new java.util.ArrayList<>());
+            default -> throw new IllegalArgumentException("Unknown list implementation: " + impl);
+        };
+    }
+
+    /**
+     * Creates an adapter over a list of the kind named by {@code impl} holding {@code 0 .. size - 1}.
+     */
+    static ListAdapter filled(String impl, Integer[] items) {
+        ListAdapter adapter = create(impl);
+        for (Integer item : items)
+            adapter.addLast(item);
+        return adapter;
+    }
+
+    final class OfList implements ListAdapter {
+        private final List<Integer> list;
+
+        OfList(List<Integer> list) {
+            this.list = list;
+        }
+
+        public void addFirst(Integer item) {
+            list.addFirst(item);
+        }
+
+        public void add(Integer item, int index) {
+            list.add(item, index);
+        }
+
+        public void addLast(Integer item) {
+            list.addLast(item);
+        }
+
+        public Integer removeFirst() {
+            return list.removeFirst();
+        }
+
+        public Integer remove(int index) {
+            return list.remove(index);
+        }
+
+        public Integer removeLast() {
+            return list.removeLast();
+        }
+
+        public Integer get(int index) {
+            return list.get(index);
+        }
+
+        public Integer set(Integer item, int index) {
+            return list.set(item, index);
+        }
+
+        public int size() {
+            return list.size();
+        }
+
+        public void iterate(int start, int stop, Blackhole bh) {
+            ListIterator<Integer> it = list.iterator(start, stop);
+            while (it.hasNext())
+                bh.consume(it.next());
+        }
+
+        public boolean contains(Object o) {
+            return list.contains(o);
+        }
+
+        public long parallelSum() {
+            return list.parallelStream().mapToLong(Integer::longValue).sum();
+        }
+
+        public boolean removeAll(Collection<?> c) {
+            return list.removeAll(c);
+        }
+
+        public boolean retainAll(Collection<?> c) {
+            return list.retainAll(c);
+        }
+
+        public Object[] toArray() {
+            return list.toArray();
+        }
+
+        public String asString() {
+            return list.toString();
+        }
+
+        public int hash() {
+            return list.hashCode();
+        }
+
+        public Object subList(int first, int last) {
+            return list.subList(first, last);
+        }
+
+        public Object copyOfRange(int first, int last) {
+            return list.copyOfRange(first, last);
+        }
+
+        public void sort(Comparator<? super Integer> c) {
+            list.sort(c);
+        }
+    }
+
+    final class OfJavaList implements ListAdapter {
+        private final java.util.List<Integer> list;
+
+        OfJavaList(java.util.List<Integer> list) {
+            this.list = list;
+        }
+
+        public void addFirst(Integer item) {
+            list.add(0, item);
+        }
+
+        public void add(Integer item, int index) {
+            list.add(index, item);
+        }
+
+        public void addLast(Integer item) {
+            list.add(item);
+        }
+
+        public Integer removeFirst() {
+            return list.remove(0);
+        }
+
+        public Integer remove(int index) {
+            return list.remove(index);
+        }
+
+        public Integer removeLast() {
+            return list.remove(list.size() - 1);
+        }
+
+        public Integer get(int index) {
+            return list.get(index);
+        }
+
+        public Integer set(Integer item, int index) {
+            return list.set(index, item);
+        }
+
+        public int size() {
+            return list.size();
+        }
+
+        public void iterate(int start, int stop, Blackhole bh) {
+            java.util.ListIterator<Integer> it = list.listIterator(start);
+            while (it.nextIndex() < stop)
+                bh.consume(it.next());
+        }
+
+        public boolean contains(Object o) {
+            return list.contains(o);
+        }
+
+        public long parallelSum() {
+            return list.parallelStream().mapToLong(Integer::longValue).sum();
+        }
+
+        public boolean removeAll(Collection<?> c) {
+            return list.removeAll(c);
+        }
+
+        public boolean retainAll(Collection<?> c) {
+            return list.retainAll(c);
+        }
+
+        public Object[] toArray() {
+            return list.toArray();
+        }
+
+        public String asString() {
+            return list.toString();
+        }
+
+        public int hash() {
+            return list.hashCode();
+        }
+
+        public Object subList(int first, int last) {
+            return list.subList(first, last);
+        }
+
+        public Object copyOfRange(int first, int last) {
+            return list instanceof java.util.LinkedList
+                    ? new java.util.LinkedList<>(list.subList(first, last))
+                    : new java.util.ArrayList<>(list.subList(first, last));
+        }
+
+        public void sort(Comparator<? super Integer> c) {
+            list.sort(c);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package DataStructures.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. It accepts every JMH command line option and always attaches the
+ * {@link GCProfiler}, so the allocation rate of each operation is reported next to its time.
+ * <p>Example: {@code java -jar target/benchmarks.jar ListOperations -p size=1000}</p>
+ * @author Eduardo Costa de Souza
+ */
+public class ListBenchmarks {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(cmd)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,87 @@
+package DataStructures.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the destructive bulk operations of {@link DataStructures.List}: {@code removeAll} and
+ * {@code retainAll}, each one removing every other item of the list, and {@code sort} of the items in random order.
+ * <p>
+ * The list is rebuilt before every invocation, so prefer the larger sizes when reading these numbers; the quadratic
+ * implementations might not finish at 10M items in a reasonable time, restrict them with {@code -p size=...}.
+ * </p>
+ * @author Eduardo Costa de Souza
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListBulkBenchmark {
+    @Param({"LinkedList", "DoublyLinkedList", "ArrayList", "UnrolledLinkedList", "IndexedSkipList",
+            "ArrayDequeList", "TreeList", "LinkedHashList", "java.util.LinkedList", "java.util.ArrayList"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private Integer[] items;
+    private Integer[] shuffled;
+    private Set<Integer> everyOther;
+    private ListAdapter list;
+    private ListAdapter shuffledList;
+
+    @Setup(Level.Trial)
+    public void setUpItems() {
+        items = new Integer[size];
+        everyOther = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            items[i] = i;
+            if ((i & 1) == 0)
+                everyOther.add(items[i]);
+        }
+        final java.util.List<Integer> order = new java.util.ArrayList<>(Arrays.asList(items));
+        Collections.shuffle(order, new Random(42));
+        shuffled = order.toArray(new Integer[0]);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list = ListAdapter.filled(impl, items);
+        shuffledList = ListAdapter.filled(impl, shuffled);
+    }
+
+    @Benchmark
+    public boolean removeAll() {
+        return list.removeAll(everyOther);
+    }
+
+    @Benchmark
+    public boolean retainAll() {
+        return list.retainAll(everyOther);
+    }
+
+    @Benchmark
+    public Object sort() {
+        shuffledList.sort(null);
+        return shuffledList;
+    }
+}
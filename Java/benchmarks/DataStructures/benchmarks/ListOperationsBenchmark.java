@@ -0,0 +1,155 @@
+package DataStructures.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks every non destructive operation of {@link DataStructures.List} at the first, middle and last positions.
+ * <p>
+ * Structural changes are measured in pairs (an insertion followed by the removal at the same position), so the size
+ * of the list stays the same along the whole measurement.
+ * </p>
+ * @author Eduardo Costa de Souza
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListOperationsBenchmark {
+    @Param({"LinkedList", "DoublyLinkedList", "PooledLinkedList", "PooledDoublyLinkedList", "ArrayList",
+            "UnrolledLinkedList", "IndexedSkipList", "ArrayDequeList", "TreeList", "LinkedHashList",
+            "java.util.LinkedList", "java.util.ArrayList"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private ListAdapter list;
+    private Integer item;
+    private Integer missing;
+    private int middle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Integer[] items = new Integer[size];
+        for (int i = 0; i < size; i++)
+            items[i] = i;
+        list = ListAdapter.filled(impl, items);
+        middle = size / 2;
+        item = items[middle];
+        missing = -1;
+    }
+
+    @Benchmark
+    public Integer addRemoveFirst() {
+        list.addFirst(item);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public Integer addRemoveMiddle() {
+        list.add(item, middle);
+        return list.remove(middle);
+    }
+
+    @Benchmark
+    public Integer addRemoveLast() {
+        list.addLast(item);
+        return list.removeLast();
+    }
+
+    @Benchmark
+    public Integer getFirst() {
+        return list.get(0);
+    }
+
+    @Benchmark
+    public Integer getMiddle() {
+        return list.get(middle);
+    }
+
+    @Benchmark
+    public Integer getLast() {
+        return list.get(size - 1);
+    }
+
+    @Benchmark
+    public Integer setFirst() {
+        return list.set(item, 0);
+    }
+
+    @Benchmark
+    public Integer setMiddle() {
+        return list.set(item, middle);
+    }
+
+    @Benchmark
+    public Integer setLast() {
+        return list.set(item, size - 1);
+    }
+
+    @Benchmark
+    public void iterateAll(Blackhole bh) {
+        list.iterate(0, size, bh);
+    }
+
+    @Benchmark
+    public void iterateMiddleHalf(Blackhole bh) {
+        list.iterate(size / 4, size - size / 4, bh);
+    }
+
+    @Benchmark
+    public boolean containsMiddle() {
+        return list.contains(item);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(missing);
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return list.parallelSum();
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    @Benchmark
+    public String toStringAll() {
+        return list.asString();
+    }
+
+    @Benchmark
+    public int hashCodeAll() {
+        return list.hash();
+    }
+
+    @Benchmark
+    public Object subListMiddleHalf() {
+        return list.subList(size / 4, size - size / 4);
+    }
+
+    @Benchmark
+    public Object copyOfRangeMiddleHalf() {
+        return list.copyOfRange(size / 4, size - size / 4);
+    }
+}
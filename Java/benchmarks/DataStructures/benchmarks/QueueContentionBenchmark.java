@@ -0,0 +1,101 @@
+package DataStructures.benchmarks;
+
+import DataStructures.ConcurrentLinkedList;
+import DataStructures.DoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures producer/consumer throughput of a shared queue: every thread appends an item and then removes the first
+ * one. Run it through {@link ContentionBenchmarks} to sweep the thread count from 1 to 64.
+ * @author Eduardo Costa de Souza
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueContentionBenchmark {
+    @Param({"ConcurrentLinkedList", "synchronized DoublyLinkedList", "java.util.concurrent.ConcurrentLinkedQueue"})
+    public String impl;
+
+    private Queue queue;
+    private final Integer item = 42;
+
+    /**
+     * The two operations measured, over each of the compared queues.
+     */
+    private interface Queue {
+        void addLast(Integer item);
+
+        Integer removeFirst();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        queue = switch (impl) {
+            case "ConcurrentLinkedList" -> {
+                final ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<>();
+                yield new Queue() {
+                    public void addLast(Integer item) {
+                        list.addLast(item);
+                    }
+
+                    public Integer removeFirst() {
+                        try {
+                            return list.removeFirst();
+                        } catch (NoSuchElementException e) {
+                            return null;
+                        }
+                    }
+                };
+            }
+            case "synchronized DoublyLinkedList" -> {
+                final DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+                yield new Queue() {
+                    public synchronized void addLast(Integer item) {
+                        list.addLast(item);
+                    }
+
+                    public synchronized Integer removeFirst() {
+                        return list.isEmpty() ? null : list.removeFirst();
+                    }
+                };
+            }
+            case "java.util.concurrent.ConcurrentLinkedQueue" -> {
+                final ConcurrentLinkedQueue<Integer> q = new ConcurrentLinkedQueue<>();
+                yield new Queue() {
+                    public void addLast(Integer item) {
+                        q.offer(item);
+                    }
+
+                    public Integer removeFirst() {
+                        return q.poll();
+                    }
+                };
+            }
+            default -> throw new IllegalArgumentException("Unknown queue implementation: " + impl);
+        };
+    }
+
+    @Benchmark
+    public Integer addLastRemoveFirst() {
+        queue.addLast(item);
+        return queue.removeFirst();
+    }
+}
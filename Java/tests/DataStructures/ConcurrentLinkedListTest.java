@@ -0,0 +1,122 @@
+package DataStructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress tests of {@link ConcurrentLinkedList} under concurrent producers, consumers and iterators.
+ */
+class ConcurrentLinkedListTest {
+    private static final int PRODUCERS = 2;
+    private static final int CONSUMERS = 2;
+    private static final int ITEMS_PER_PRODUCER = 50_000;
+
+    @Test
+    void everyProducedItemIsConsumedOnceAndInOrderPerProducer() throws Throwable {
+        final ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<>();
+        final int total = PRODUCERS * ITEMS_PER_PRODUCER;
+        final AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread[] threads = new Thread[PRODUCERS + CONSUMERS];
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            final int base = p * ITEMS_PER_PRODUCER;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < ITEMS_PER_PRODUCER; i++)
+                    list.addLast(base + i);
+            });
+        }
+        final int[] consumed = new int[CONSUMERS];
+        for (int c = 0; c < CONSUMERS; c++) {
+            final int consumer = c;
+            threads[PRODUCERS + c] = new Thread(() -> {
+                // the last item taken from each producer, items of a producer must come out in the order they went in
+                final int[] lastOf = new int[PRODUCERS];
+                Arrays.fill(lastOf, -1);
+                try {
+                    while (sum(consumed) < total) {
+                        final Integer item;
+                        try {
+                            item = list.removeFirst();
+                        } catch (NoSuchElementException e) {
+                            Thread.onSpinWait();
+                            continue;
+                        }
+                        assertEquals(0, seen.getAndIncrement(item), "taken twice: " + item);
+                        final int producer = item / ITEMS_PER_PRODUCER;
+                        assertTrue(item > lastOf[producer], item + " after " + lastOf[producer]);
+                        lastOf[producer] = item;
+                        synchronized (consumed) {
+                            consumed[consumer]++;
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                    synchronized (consumed) {
+                        consumed[consumer] = total;
+                    }
+                }
+            });
+        }
+        for (Thread t : threads)
+            t.start();
+        for (Thread t : threads)
+            t.join();
+        if (failure.get() != null)
+            throw failure.get();
+
+        for (int i = 0; i < total; i++)
+            assertEquals(1, seen.get(i), "not taken once: " + i);
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void iteratorsRacingRemovalsNeverThrow() throws Throwable {
+        final ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<>();
+        for (int i = 0; i < 1000; i++)
+            list.addLast(i);
+        Stress.run(3, () -> {
+            for (int w = 0; w < 200_000; w++)
+                list.addLast(list.removeFirst());
+        }, () -> {
+            for (Integer item : list) {
+                assertNotNull(item);
+                assertTrue(item >= 0 && item < 1000, "read " + item);
+            }
+        });
+        assertEquals(1000, list.size());
+    }
+
+    @Test
+    void streamsRacingChangesNeverOverrunTheSize() throws Throwable {
+        final ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<>();
+        for (int i = 0; i < 1000; i++)
+            list.addLast(i);
+        Stress.run(3, () -> {
+            for (int w = 0; w < 200_000; w++)
+                list.addLast(list.removeFirst());
+        }, () -> {
+            for (Object item : list.stream().toArray())
+                assertTrue((Integer) item >= 0 && (Integer) item < 1000, "read " + item);
+        });
+        assertEquals(1000, list.stream().count());
+    }
+
+    private static int sum(int[] counts) {
+        synchronized (counts) {
+            int sum = 0;
+            for (int c : counts)
+                sum += c;
+            return sum;
+        }
+    }
+}
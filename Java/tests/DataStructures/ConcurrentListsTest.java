@@ -0,0 +1,209 @@
+package DataStructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress tests of {@link ConcurrentLists#readMostly(List)}: readers race a writer for a while, and once the writer
+ * stops every read must agree with the List.
+ */
+class ConcurrentListsTest {
+    private static final int ROUNDS = 40;
+    private static final int WRITES_PER_ROUND = 200;
+    private static final int READERS = 3;
+    private static final int SIZE = 256;
+
+    @Test
+    void positionalReadsRacingWritesAgreeWithTheListAfterwards() throws Throwable {
+        final DoublyLinkedList<Integer> backing = new DoublyLinkedList<>();
+        for (int i = 0; i < SIZE; i++)
+            backing.addLast(i);
+        final List<Integer> list = ConcurrentLists.readMostly(backing);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            final boolean ascending = round % 2 == 0;
+            Stress.run(READERS, () -> {
+                for (int w = 0; w < WRITES_PER_ROUND; w++) {
+                    if (w % 8 == 0)
+                        list.sort(ascending ? Comparator.naturalOrder() : Comparator.reverseOrder());
+                    else
+                        list.addLast(list.removeFirst());
+                }
+            }, () -> {
+                try {
+                    final Integer item = list.get(ThreadLocalRandom.current().nextInt(SIZE));
+                    assertNotNull(item);
+                    assertTrue(item >= 0 && item < SIZE, "read " + item);
+                } catch (IndexOutOfBoundsException e) {
+                    // the writer is between a removeFirst and an addLast
+                }
+            });
+            assertReadsAgree(list);
+        }
+    }
+
+    @Test
+    void meteredListsCachingReadsAreReadUnderTheLock() throws Throwable {
+        final DoublyLinkedList<Integer> backing = new DoublyLinkedList<>();
+        for (int i = 0; i < SIZE; i++)
+            backing.addLast(i);
+        final List<Integer> list = ConcurrentLists.readMostly(MeteredList.wrap(backing));
+
+        for (int round = 0; round < ROUNDS / 4; round++) {
+            final boolean ascending = round % 2 == 0;
+            Stress.run(READERS, () -> {
+                for (int w = 0; w < WRITES_PER_ROUND; w++)
+                    list.sort(ascending == (w % 2 == 0) ? Comparator.naturalOrder() : Comparator.reverseOrder());
+            }, () -> list.get(ThreadLocalRandom.current().nextInt(SIZE)));
+            assertReadsAgree(list);
+        }
+    }
+
+    @Test
+    void readsOfListsCachingThemNeverOverlapAWrite() throws Throwable {
+        final SlowWriteList backing = new SlowWriteList();
+        final List<Integer> list = ConcurrentLists.readMostly(backing);
+        Stress.run(READERS, () -> {
+            for (int w = 0; w < 50; w++)
+                list.addLast(w);
+        }, () -> {
+            list.size();
+            list.isEmpty();
+            list.contains(0);
+            if (!list.isEmpty())
+                list.get(0);
+        });
+        assertEquals(50, list.size());
+        assertEquals(0, backing.overlaps.get());
+    }
+
+    @Test
+    void iteratorsEitherSeeOneStateOrThrow() throws Throwable {
+        iteratorsEitherSeeOneStateOrThrow(new ArrayList<>());
+        iteratorsEitherSeeOneStateOrThrow(new DoublyLinkedList<>());
+    }
+
+    /**
+     * Rotates backing while readers iterate it, every walk that does not throw a
+     * {@link ConcurrentModificationException} must have seen a single rotation of it.
+     */
+    private static void iteratorsEitherSeeOneStateOrThrow(List<Integer> backing) throws Throwable {
+        for (int i = 0; i < SIZE; i++)
+            backing.addLast(i);
+        final List<Integer> list = ConcurrentLists.readMostly(backing);
+        final AtomicInteger completed = new AtomicInteger();
+        Stress.run(READERS, () -> {
+            for (int w = 0; w < ROUNDS * WRITES_PER_ROUND; w++)
+                list.addLast(list.removeFirst());
+        }, () -> {
+            final java.util.List<Integer> seen = new java.util.ArrayList<>();
+            try {
+                for (Integer item : list)
+                    seen.add(item);
+            } catch (ConcurrentModificationException e) {
+                return;
+            }
+            // the writer may have been between a removeFirst and an addLast
+            assertTrue(seen.size() >= SIZE - 1, "walked " + seen.size());
+            for (int i = 1; i < seen.size(); i++)
+                assertEquals((seen.get(0) + i) % SIZE, seen.get(i), "at " + i);
+            completed.incrementAndGet();
+        });
+        assertTrue(completed.get() > 0);
+
+        final ListIterator<Integer> it = list.iterator();
+        assertEquals(list.getFirst(), it.next());
+        list.addLast(list.removeFirst());
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    void lookupsSharingARenumberingAgreeWithTheList() throws Throwable {
+        final List<Integer> list = ConcurrentLists.readMostly(new LinkedHashList<>());
+        for (int i = 0; i < SIZE; i++)
+            list.addLast(i);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            // unlinking the first Node makes every cached position stale
+            list.addLast(list.removeFirst());
+            final Object[] expected = list.toArray();
+            Stress.run(READERS, () -> {
+                for (int i = 0; i < SIZE; i++)
+                    assertEquals(i, list.indexOf(expected[i]), "at " + i);
+            }, () -> {
+                final int i = ThreadLocalRandom.current().nextInt(SIZE);
+                assertEquals(i, list.indexOf(expected[i]), "at " + i);
+                assertEquals(i, list.lastIndexOf(expected[i]), "at " + i);
+            });
+        }
+    }
+
+    /**
+     * A List whose writes pause halfway, and whose reads count how often they ran during a write. It says it caches
+     * reads, so they must never overlap a write.
+     */
+    private static final class SlowWriteList extends AbstractList<Integer> implements List<Integer> {
+        private final java.util.List<Integer> items = new java.util.ArrayList<>();
+        private volatile boolean writing;
+        private final AtomicInteger overlaps = new AtomicInteger();
+
+        boolean cachesReads() {
+            return true;
+        }
+
+        public void addLast(Integer item) {
+            writing = true;
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            items.add(item);
+            writing = false;
+        }
+
+        public Integer get(int index) throws IndexOutOfBoundsException {
+            read();
+            return items.get(index);
+        }
+
+        public int size() {
+            read();
+            return items.size();
+        }
+
+        public ListIterator<Integer> iterator() {
+            read();
+            return new ArrayList<>(items).iterator();
+        }
+
+        private void read() {
+            if (writing)
+                overlaps.incrementAndGet();
+        }
+    }
+
+    /**
+     * Checks from several threads that get agrees with toArray at every position, in order and at random.
+     */
+    private static void assertReadsAgree(List<Integer> list) throws Throwable {
+        final Object[] expected = list.toArray();
+        assertEquals(SIZE, expected.length);
+        Stress.run(READERS, () -> {
+            for (int i = 0; i < SIZE; i++)
+                assertEquals(expected[i], list.get(i), "at " + i);
+        }, () -> {
+            final int i = ThreadLocalRandom.current().nextInt(SIZE);
+            assertEquals(expected[i], list.get(i), "at " + i);
+        });
+    }
+}
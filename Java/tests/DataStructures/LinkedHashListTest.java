@@ -0,0 +1,61 @@
+package DataStructures;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Tests of the index of {@link LinkedHashList} over items held many times.
+ */
+class LinkedHashListTest {
+    private static final int DUPLICATES = 100_000;
+
+    @Test
+    void prependingDuplicatesCostsConstantTimeEach() {
+        final LinkedHashList<Integer> list = new LinkedHashList<>();
+        // walking over every duplicate on each prepend takes far longer than this
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < DUPLICATES; i++)
+                list.addFirst(0);
+        });
+        assertEquals(DUPLICATES, list.count(0));
+        assertEquals(0, list.indexOf(0));
+        assertEquals(DUPLICATES - 1, list.lastIndexOf(0));
+    }
+
+    @Test
+    void duplicatesLinkedAnywhereKeepTheirOrder() {
+        final LinkedHashList<Integer> list = new LinkedHashList<>();
+        final java.util.List<Integer> expected = new java.util.ArrayList<>();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 2000; i++) {
+            final int item = random.nextInt(3);
+            final int index = random.nextInt(list.size() + 1);
+            list.add(item, index);
+            expected.add(index, item);
+            if (i % 5 == 0) {
+                final int at = random.nextInt(list.size());
+                final int other = random.nextInt(3);
+                list.set(other, at);
+                expected.set(at, other);
+            }
+        }
+        for (int item = 0; item < 3; item++) {
+            assertEquals(expected.indexOf(item), list.indexOf(item), "first " + item);
+            assertEquals(expected.lastIndexOf(item), list.lastIndexOf(item), "last " + item);
+        }
+        // removing by item takes the first Node of each bucket, so the buckets must be in List order
+        while (!expected.isEmpty()) {
+            final Integer item = expected.get(random.nextInt(expected.size()));
+            expected.remove(item);
+            list.remove(item);
+            assertEquals(expected.indexOf(item), list.indexOf(item), "first " + item);
+            assertEquals(expected.lastIndexOf(item), list.lastIndexOf(item), "last " + item);
+        }
+        assertEquals(0, list.size());
+    }
+}
@@ -0,0 +1,52 @@
+package DataStructures;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a writer against a number of readers, all started together, and rethrows the first failure of any of them.
+ */
+final class Stress {
+    private Stress() {
+    }
+
+    /**
+     * Runs writer once on its own thread while each of readers threads runs reader over and over until writer
+     * returns.
+     */
+    static void run(int readers, Runnable writer, Runnable reader) throws Throwable {
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[readers + 1];
+        threads[0] = new Thread(() -> {
+            try {
+                start.await();
+                writer.run();
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                done.set(true);
+            }
+        });
+        for (int r = 1; r <= readers; r++)
+            threads[r] = new Thread(() -> {
+                try {
+                    start.await();
+                    do
+                        reader.run();
+                    while (!done.get() && failure.get() == null);
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            });
+        for (Thread t : threads)
+            t.start();
+        start.countDown();
+        for (Thread t : threads)
+            t.join();
+        if (failure.get() != null)
+            throw failure.get();
+    }
+}